@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# Сравнение пропускной способности шлюза и сервера на платформенных и виртуальных потоках.
+# Обе сборки собираются профилем java21 и запускаются на одной JDK 21, отличаются только virtual-threads.enabled.
+# Нужны JDK 21 в JAVA_HOME, Maven, curl и hey (https://github.com/rakyll/hey), порты 8080 и 9090 свободны.
+# Запуск из корня репозитория:
+#   JAVA_HOME=/path/to/jdk-21 gateway/bench/virtual_threads.sh
+# Параметры: CONCURRENCY (по умолчанию 2000), DURATION (30s), URL (/items/1 через шлюз).
+
+set -euo pipefail
+
+CONCURRENCY=${CONCURRENCY:-2000}
+DURATION=${DURATION:-30s}
+URL=${URL:-http://localhost:8080/items/1}
+JAVA="${JAVA_HOME:?укажите JAVA_HOME с JDK 21}/bin/java"
+
+pids=()
+
+stop() {
+    for pid in "${pids[@]}"; do
+        kill "$pid" 2>/dev/null || true
+        wait "$pid" 2>/dev/null || true
+    done
+    pids=()
+}
+trap stop EXIT
+
+wait_healthy() {
+    for _ in $(seq 120); do
+        if curl -sf "$1/actuator/health" >/dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "$1 не поднялся" >&2
+    exit 1
+}
+
+run() {
+    local title=$1
+    shift
+
+    mvn -B -q -DskipTests "$@" package
+    "$JAVA" -jar server/target/shareit-server-0.0.1-SNAPSHOT.jar --spring.profiles.active=test \
+        --logging.level.root=WARN >/dev/null &
+    pids+=($!)
+    "$JAVA" -jar gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar --logging.level.root=WARN \
+        --shareit-gateway.coalescing.enabled=false >/dev/null &
+    pids+=($!)
+    wait_healthy http://localhost:9090
+    wait_healthy http://localhost:8080
+
+    curl -sf -H 'Content-Type: application/json' http://localhost:8080/users \
+        -d '{"name":"bench","email":"bench@ya.ru"}' >/dev/null
+    curl -sf -H 'Content-Type: application/json' -H 'X-Sharer-User-Id: 1' http://localhost:8080/items \
+        -d '{"name":"Дрель","description":"Аккумуляторная дрель","available":true}' >/dev/null
+
+    hey -z 5s -c 100 -H 'X-Sharer-User-Id: 1' "$URL" >/dev/null
+    echo "== $title: $CONCURRENCY соединений, $DURATION"
+    hey -z "$DURATION" -c "$CONCURRENCY" -H 'X-Sharer-User-Id: 1' "$URL" \
+        | grep -E 'Requests/sec|Average|Slowest|99%|\[[0-9]+\]'
+    stop
+}
+
+run "Платформенные потоки" -Pjava21 -Dvirtual-threads.enabled=false
+run "Виртуальные потоки" -Pjava21
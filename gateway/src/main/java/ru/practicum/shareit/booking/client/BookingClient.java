@@ -1,42 +1,40 @@
 package ru.practicum.shareit.booking.client;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.client.BaseClient;
-import ru.practicum.shareit.constants.Constants;
+import ru.practicum.shareit.client.GatewayTransport;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResilienceGuard;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.RetryExecutor;
+import ru.practicum.shareit.client.balancer.ServerBalancer;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
-    @Autowired
-    public BookingClient(@Value(Constants.headerServerUrl) String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public BookingClient(GatewayTransport transport, ServerBalancer serverBalancer, ResponseCache responseCache,
+                         RequestCoalescer requestCoalescer, RetryExecutor retryExecutor,
+                         ResilienceGuard resilienceGuard) {
+        super(transport, serverBalancer, responseCache, requestCoalescer, retryExecutor, resilienceGuard,
+                API_PREFIX);
     }
 
-    public ResponseEntity<Object> add(long userId, BookingRequestDto bookingRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> add(long userId, BookingRequestDto bookingRequestDto) {
         return post("", userId, bookingRequestDto);
     }
 
-    public ResponseEntity<Object> getById(long userId, Long id) {
-        return get("/" + id, userId);
+    public CompletableFuture<ResponseEntity<Object>> getById(long userId, Long id) {
+        return cachedGet("bookings-by-id", "/" + id, userId);
     }
 
-    public ResponseEntity<Object> getAllByBookerId(long userId, BookingState state, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getAllByBookerId(long userId, BookingState state, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -45,7 +43,7 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getAllByOwnerId(long userId, BookingState stateEnum, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getAllByOwnerId(long userId, BookingState stateEnum, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "state", stateEnum.name(),
                 "from", from,
@@ -54,7 +52,25 @@ public class BookingClient extends BaseClient {
         return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> update(long userId, long id, Boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> getAllByBookerId(long userId, BookingState state, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return get("?state={state}&cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> getAllByOwnerId(long userId, BookingState stateEnum, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "state", stateEnum.name(),
+                "cursor", cursor,
+                "size", size
+        );
+        return get("/owner?state={state}&cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> update(long userId, long id, Boolean approved) {
         Map<String, Object> parameters = Map.of(
                 "approved", approved
         );
@@ -13,6 +13,7 @@ import ru.practicum.shareit.constants.Constants;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping(path = "/bookings")
@@ -23,47 +24,55 @@ public class BookingController {
     private final BookingClient bookingClient;
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getById(@RequestHeader(Constants.headerUserId) Long userId,
-                                          @PathVariable Long id) {
+    public CompletableFuture<ResponseEntity<Object>> getById(@RequestHeader(Constants.headerUserId) Long userId,
+                                                             @PathVariable Long id) {
         log.info("Получен запрос GET /bookings/id  запрос на вещь с id" + id);
         return bookingClient.getById(userId, id);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllByBookerId(
+    public CompletableFuture<ResponseEntity<Object>> getAllByBookerId(
             @RequestHeader(Constants.headerUserId) Long userId,
             @RequestParam(name = "state", defaultValue = "ALL") String stateParam,
             @RequestParam(defaultValue = Constants.pageFrom) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.pageSize) @Positive Integer size) {
+            @RequestParam(defaultValue = Constants.pageSize) @Positive Integer size,
+            @RequestParam(required = false) String cursor) {
         BookingState state = BookingState.stringToState(stateParam).orElseThrow(
                 () -> new IllegalArgumentException("Unknown state: " + stateParam));
         log.info("Получен запрос всех вещей бронирующего GET /bookings " + userId);
+        if (cursor != null) {
+            return bookingClient.getAllByBookerId(userId, state, cursor, size);
+        }
         return bookingClient.getAllByBookerId(userId, state, from, size);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllByOwnerId(
+    public CompletableFuture<ResponseEntity<Object>> getAllByOwnerId(
             @RequestHeader(Constants.headerUserId) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = Constants.pageFrom, required = false) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.pageSize, required = false) @Positive Integer size) {
+            @RequestParam(defaultValue = Constants.pageSize, required = false) @Positive Integer size,
+            @RequestParam(required = false) String cursor) {
         BookingState stateEnum = BookingState.stringToState(state).orElseThrow(
                 () -> new IllegalArgumentException("Unknown state: " + state));
         log.info("Получен запрос всех вещей владельца GET /bookings/owner " + userId);
+        if (cursor != null) {
+            return bookingClient.getAllByOwnerId(userId, stateEnum, cursor, size);
+        }
         return bookingClient.getAllByOwnerId(userId, stateEnum, from, size);
     }
 
     @PostMapping
-    public ResponseEntity<Object> add(@RequestHeader(Constants.headerUserId) Long userId,
-                                      @Valid @RequestBody BookingRequestDto bookingRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> add(@RequestHeader(Constants.headerUserId) Long userId,
+                                                         @Valid @RequestBody BookingRequestDto bookingRequestDto) {
         log.info("Получен запрос POST /bookings " + userId);
         return bookingClient.add(userId, bookingRequestDto);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> update(@RequestHeader(Constants.headerUserId) Long userId,
-                                         @PathVariable Long id,
-                                         @RequestParam() Boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> update(@RequestHeader(Constants.headerUserId) Long userId,
+                                                            @PathVariable Long id,
+                                                            @RequestParam() Boolean approved) {
         log.info("Получен запрос PATCH /bookings/id " + " ! статус брони вещи с id" + id + ": забронировано=" + approved + " юзер с id" + userId);
         return bookingClient.update(userId, id, approved);
     }
@@ -2,104 +2,147 @@ package ru.practicum.shareit.client;
 
 import org.springframework.http.*;
 import org.springframework.lang.Nullable;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.client.balancer.ServerBalancer;
+import ru.practicum.shareit.client.balancer.ServerNode;
 import ru.practicum.shareit.constants.Constants;
 
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class BaseClient {
-    protected final RestTemplate rest;
+    private final GatewayTransport transport;
+    private final ServerBalancer serverBalancer;
+    private final ResponseCache responseCache;
+    private final RequestCoalescer requestCoalescer;
+    private final RetryExecutor retryExecutor;
+    private final ResilienceGuard resilienceGuard;
+    private final String prefix;
+    private final String downstream;
+
+    protected BaseClient(GatewayTransport transport, ServerBalancer serverBalancer, ResponseCache responseCache,
+                         RequestCoalescer requestCoalescer, RetryExecutor retryExecutor,
+                         ResilienceGuard resilienceGuard, String prefix) {
+        this.transport = transport;
+        this.serverBalancer = serverBalancer;
+        this.responseCache = responseCache;
+        this.requestCoalescer = requestCoalescer;
+        this.retryExecutor = retryExecutor;
+        this.resilienceGuard = resilienceGuard;
+        this.prefix = prefix;
+        this.downstream = prefix.startsWith("/") ? prefix.substring(1) : prefix;
+    }
+
+    protected CompletableFuture<ResponseEntity<Object>> get(String path) {
+        return get(path, null, null);
+    }
 
-    protected BaseClient(RestTemplate rest) {
-        this.rest = rest;
+    protected CompletableFuture<ResponseEntity<Object>> get(String path, long userId) {
+        return get(path, userId, null);
     }
 
-    protected ResponseEntity<Object> get(String path) {
-        return get(path, null, null);
+    protected CompletableFuture<ResponseEntity<Object>> get(String path, Long userId,
+                                                           @Nullable Map<String, Object> parameters) {
+        return requestCoalescer.execute(prefix, path, userId, parameters,
+                () -> retryExecutor.execute(downstream,
+                        () -> makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null)));
     }
 
-    protected ResponseEntity<Object> get(String path, long userId) {
-        return get(path, userId, null);
+    protected CompletableFuture<ResponseEntity<Object>> cachedGet(String route, String path) {
+        return cachedGet(route, path, null, null);
     }
 
-    protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    protected CompletableFuture<ResponseEntity<Object>> cachedGet(String route, String path, long userId) {
+        return cachedGet(route, path, userId, null);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, T body) {
+    protected CompletableFuture<ResponseEntity<Object>> cachedGet(String route, String path, Long userId,
+                                                                 @Nullable Map<String, Object> parameters) {
+        return responseCache.get(prefix, route, path, userId, parameters,
+                () -> get(path, userId, parameters));
+    }
+
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, T body) {
         return post(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, long userId, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, long userId, T body) {
         return post(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, Long userId,
+                                                                @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> put(String path, long userId,
+                                                               @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, T body) {
         return patch(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, long userId) {
         return patch(path, userId, null, null);
     }
 
-    protected ResponseEntity<Object> patch(String path, long userId, @Nullable Map<String, Object> parameters) {
+    protected CompletableFuture<ResponseEntity<Object>> patch(String path, long userId,
+                                                             @Nullable Map<String, Object> parameters) {
         return patch(path, userId, parameters, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, long userId, T body) {
         return patch(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, Long userId,
+                                                                 @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
     }
 
-    protected void delete(String path) {
-        delete(path, null, null);
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path) {
+        return delete(path, null, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, long userId) {
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path, long userId) {
         return delete(path, userId, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path, Long userId,
+                                                              @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
-    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
-
-        ResponseEntity<Object> shareitServerResponse;
-        try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+    private <T> CompletableFuture<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path,
+                                                                            Long userId,
+                                                                            @Nullable Map<String, Object> parameters,
+                                                                            @Nullable T body) {
+        CompletableFuture<ResponseEntity<Object>> shareitServerResponse = resilienceGuard.execute(downstream, () -> {
+            ServerNode node = serverBalancer.acquire();
+            CompletableFuture<ResponseEntity<Object>> response = null;
+            try {
+                response = transport.exchange(method, node.getUrl() + prefix + path, defaultHeaders(userId),
+                        parameters, body);
+            } finally {
+                if (response == null) {
+                    serverBalancer.release(node, null, null);
+                }
             }
-        } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return response.whenComplete((result, e) -> serverBalancer.release(node, result, e));
+        });
+        if (method != HttpMethod.GET) {
+            shareitServerResponse = shareitServerResponse.whenComplete((response, e) -> responseCache.evictAll());
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        return shareitServerResponse.thenApply(BaseClient::prepareGatewayResponse);
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         if (userId != null) {
             headers.set(Constants.headerUserId, String.valueOf(userId));
         }
@@ -112,6 +155,14 @@ public abstract class BaseClient {
         }
 
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+        MediaType contentType = response.getHeaders().getContentType();
+        if (contentType != null) {
+            responseBuilder.contentType(contentType);
+        }
+        String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncoding != null) {
+            responseBuilder.header(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
 
         if (response.hasBody()) {
             return responseBuilder.body(response.getBody());
@@ -119,4 +170,4 @@ public abstract class BaseClient {
 
         return responseBuilder.build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface GatewayTransport {
+    String PROPERTY = "shareit-gateway.transport";
+    String GZIP = "gzip";
+    List<String> HOP_BY_HOP_HEADERS = List.of(HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.UPGRADE);
+
+    CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String url, HttpHeaders headers,
+                                                       @Nullable Map<String, Object> parameters,
+                                                       @Nullable Object body);
+
+    default boolean isBlocking() {
+        return false;
+    }
+
+    static ObjectMapper smileMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new SmileFactory()).build();
+    }
+
+    static boolean isRawBody(boolean passthrough, WireFormat wireFormat) {
+        return passthrough && wireFormat == WireFormat.JSON;
+    }
+
+    static Class<?> bodyType(boolean passthrough, WireFormat wireFormat) {
+        return isRawBody(passthrough, wireFormat) ? byte[].class : Object.class;
+    }
+
+    static HttpHeaders withWireFormat(HttpHeaders headers, WireFormat wireFormat, boolean acceptGzip) {
+        HttpHeaders wireHeaders = new HttpHeaders();
+        wireHeaders.putAll(headers);
+        wireHeaders.setContentType(wireFormat.getMediaType());
+        wireHeaders.setAccept(List.of(wireFormat.getMediaType()));
+        if (acceptGzip) {
+            wireHeaders.set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+        }
+        return wireHeaders;
+    }
+
+    static ResponseEntity<Object> toObjectEntity(ResponseEntity<?> response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        HOP_BY_HOP_HEADERS.forEach(headers::remove);
+        if (!(response.getBody() instanceof byte[])) {
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+        }
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+}
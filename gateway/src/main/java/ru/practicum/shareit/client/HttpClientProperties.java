@@ -0,0 +1,32 @@
+package ru.practicum.shareit.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shareit-gateway.http-client")
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class HttpClientProperties {
+    int maxTotal = 200;
+    int maxPerRoute = 100;
+    Duration keepAlive = Duration.ofSeconds(30);
+    Duration idleTimeout = Duration.ofSeconds(30);
+    Duration timeToLive = Duration.ofMinutes(5);
+    Duration validateAfterInactivity = Duration.ofSeconds(2);
+    Duration connectTimeout = Duration.ofSeconds(2);
+    Duration connectionRequestTimeout = Duration.ofSeconds(2);
+    Duration readTimeout = Duration.ofSeconds(30);
+    boolean compression = true;
+    Protocol protocol = Protocol.HTTP11;
+
+    public enum Protocol {
+        HTTP11,
+        H2C
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class RequestCoalescer {
+    private final boolean enabled;
+    private final Duration timeout;
+    private final Counter coalesced;
+    private final Map<Key, CompletableFuture<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(@Value("${shareit-gateway.coalescing.enabled}") boolean enabled,
+                            @Value("${shareit-gateway.coalescing.timeout}") Duration timeout,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.timeout = timeout;
+        coalesced = meterRegistry.counter("gateway.requests.coalesced");
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> execute(
+            String client, String path, @Nullable Long userId, @Nullable Map<String, Object> parameters,
+            Supplier<CompletableFuture<ResponseEntity<Object>>> request) {
+        if (!enabled) {
+            return request.get();
+        }
+
+        Key key = new Key(client, path, parameters, userId);
+        CompletableFuture<ResponseEntity<Object>> future = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> leader = inFlight.putIfAbsent(key, future);
+        if (leader == null) {
+            CompletableFuture<ResponseEntity<Object>> response;
+            try {
+                response = request.get();
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((result, e) -> {
+                inFlight.remove(key, future);
+                if (e != null) {
+                    future.completeExceptionally(e);
+                } else {
+                    future.complete(result);
+                }
+            });
+            return future;
+        }
+
+        coalesced.increment();
+        return leader.copy()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((result, e) -> {
+                    if (e == null) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("Не дождались ответа на совпадающий запрос GET {}{}, отправляем собственный",
+                                client, path);
+                        return request.get();
+                    }
+                    return CompletableFuture.<ResponseEntity<Object>>failedFuture(cause);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        String client;
+        String path;
+        Map<String, Object> parameters;
+        Long userId;
+    }
+}
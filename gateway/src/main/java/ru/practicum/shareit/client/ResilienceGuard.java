@@ -0,0 +1,61 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import ru.practicum.shareit.exception.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class ResilienceGuard {
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public ResilienceGuard(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> execute(String name,
+                                                             Supplier<CompletableFuture<ResponseEntity<Object>>> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException(
+                    "Сервис " + name + " временно недоступен, повторите запрос позже"));
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            return CompletableFuture.failedFuture(new ServiceUnavailableException(
+                    "Слишком много одновременных запросов к сервису " + name + ", повторите запрос позже"));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<ResponseEntity<Object>> response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        return response.whenComplete((result, e) -> {
+            bulkhead.onComplete();
+            long duration = System.nanoTime() - start;
+            if (e != null) {
+                circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, e);
+            } else if (result.getStatusCode().is5xxServerError()) {
+                circuitBreaker.onError(duration, TimeUnit.NANOSECONDS,
+                        new HttpServerErrorException(result.getStatusCode()));
+            } else {
+                circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+}
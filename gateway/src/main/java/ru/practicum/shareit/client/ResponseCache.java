@@ -0,0 +1,106 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class ResponseCache {
+    private final ResponseCacheProperties properties;
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<Key, Entry> cache;
+
+    @Autowired
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.properties = properties;
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new EntryExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway-responses");
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> get(
+            String client, String route, String path, @Nullable Long userId, @Nullable Map<String, Object> parameters,
+            Supplier<CompletableFuture<ResponseEntity<Object>>> request) {
+        Duration ttl = properties.getTtl().get(route);
+        if (!properties.isEnabled() || ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return request.get();
+        }
+
+        Key key = new Key(version.get(), client, path, parameters, userId);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.response);
+        }
+
+        return request.get().thenApply(response -> {
+            if (response.getStatusCode().is2xxSuccessful()) {
+                cache.put(key, new Entry(response, ttl));
+            }
+            return response;
+        });
+    }
+
+    public void evictAll() {
+        version.incrementAndGet();
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        long version;
+        String client;
+        String path;
+        Map<String, Object> parameters;
+        Long userId;
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    @AllArgsConstructor
+    private static class Entry {
+        ResponseEntity<Object> response;
+        Duration ttl;
+    }
+
+    private static class EntryExpiry implements Expiry<Key, Entry> {
+        @Override
+        public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+            return entry.ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.client;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = GatewayTransport.PROPERTY, havingValue = "rest-template", matchIfMissing = true)
+public class RestTemplateTransport implements GatewayTransport {
+    private final RestTemplate rest;
+    private final Class<?> bodyType;
+    private final WireFormat wireFormat;
+    private final boolean acceptGzip;
+
+    public RestTemplateTransport(@Value("${shareit-gateway.passthrough}") boolean passthrough,
+                                 @Value(WireFormat.PROPERTY) WireFormat wireFormat,
+                                 HttpClientProperties properties, RestTemplateBuilder builder,
+                                 CloseableHttpClient httpClient, Jackson2ObjectMapperBuilder jacksonBuilder) {
+        this.wireFormat = wireFormat;
+        acceptGzip = properties.isCompression() && GatewayTransport.isRawBody(passthrough, wireFormat);
+        bodyType = GatewayTransport.bodyType(passthrough, wireFormat);
+        rest = builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory())
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .errorHandler(new DefaultResponseErrorHandler() {
+                    @Override
+                    public boolean hasError(ClientHttpResponse response) {
+                        return false;
+                    }
+                })
+                .build();
+        if (wireFormat == WireFormat.SMILE) {
+            rest.getMessageConverters().removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+            rest.getMessageConverters().add(
+                    new MappingJackson2SmileHttpMessageConverter(GatewayTransport.smileMapper(jacksonBuilder)));
+        }
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String url, HttpHeaders headers,
+                                                              @Nullable Map<String, Object> parameters,
+                                                              @Nullable Object body) {
+        HttpEntity<Object> requestEntity = new HttpEntity<>(body,
+                GatewayTransport.withWireFormat(headers, wireFormat, acceptGzip));
+        try {
+            ResponseEntity<?> response = parameters != null
+                    ? rest.exchange(url, method, requestEntity, bodyType, parameters)
+                    : rest.exchange(url, method, requestEntity, bodyType);
+            return CompletableFuture.completedFuture(GatewayTransport.toObjectEntity(response));
+        } catch (RestClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    RetryBudget(RetryProperties.Budget properties) {
+        deposit = Math.round(properties.getRatio() * SCALE);
+        capacity = properties.getMaxTokens() * SCALE;
+        balance = new AtomicLong(capacity);
+    }
+
+    void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    void refund() {
+        balance.accumulateAndGet(SCALE, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exception.ServiceUnavailableException;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class RetryExecutor {
+    private static final Set<HttpStatus> RETRYABLE = EnumSet.of(HttpStatus.BAD_GATEWAY,
+            HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.GATEWAY_TIMEOUT);
+
+    private final RetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget budget;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final boolean blockingTransport;
+    private final Counter retried;
+    private final Counter hedged;
+    private final Counter budgetExhausted;
+    private final Counter rejected;
+    private final Map<String, Timer> latencies = new ConcurrentHashMap<>();
+
+    public RetryExecutor(RetryProperties properties, MeterRegistry meterRegistry,
+                         @Qualifier("virtualThreadExecutor") ObjectProvider<ExecutorService> virtualThreadExecutor,
+                         ObjectProvider<GatewayTransport> transport) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        budget = new RetryBudget(properties.getBudget());
+        GatewayTransport gatewayTransport = transport.getIfAvailable();
+        blockingTransport = gatewayTransport != null && gatewayTransport.isBlocking();
+        ExecutorService virtualThreads = virtualThreadExecutor.getIfAvailable();
+        ownsExecutor = virtualThreads == null;
+        if (ownsExecutor) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("gateway-retry-");
+            threadFactory.setDaemon(true);
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(properties.getQueueCapacity()), threadFactory,
+                    new ThreadPoolExecutor.AbortPolicy());
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        } else {
+            executor = virtualThreads;
+        }
+        retried = meterRegistry.counter("gateway.requests.retried");
+        hedged = meterRegistry.counter("gateway.requests.hedged");
+        budgetExhausted = meterRegistry.counter("gateway.retry.budget.exhausted");
+        rejected = meterRegistry.counter("gateway.retry.rejected");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> execute(String client,
+                                                             Supplier<CompletableFuture<ResponseEntity<Object>>> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        budget.deposit();
+        return attempt(client, call, 1);
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> attempt(String client,
+                                                              Supplier<CompletableFuture<ResponseEntity<Object>>> call,
+                                                              int attempt) {
+        CompletableFuture<ResponseEntity<Object>> response = properties.getHedging().isEnabled()
+                ? hedged(client, call)
+                : timed(client, call);
+        return response.handle((result, e) -> {
+                    if (!isRetryable(result, e) || attempt >= properties.getMaxAttempts()) {
+                        return response;
+                    }
+                    if (!budget.tryWithdraw()) {
+                        budgetExhausted.increment();
+                        return response;
+                    }
+                    long backoff = backoff(attempt);
+                    log.debug("Повторяем запрос к {} через {} мс, попытка {}", client, backoff, attempt + 1);
+                    CompletableFuture<CompletableFuture<ResponseEntity<Object>>> next = new CompletableFuture<>();
+                    CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS, task -> dispatch(task, () -> {
+                                budget.refund();
+                                next.complete(response);
+                            }))
+                            .execute(() -> {
+                                retried.increment();
+                                next.complete(attempt(client, call, attempt + 1));
+                            });
+                    return next.thenCompose(retry -> retry);
+                })
+                .thenCompose(next -> next);
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> hedged(String client,
+                                                             Supplier<CompletableFuture<ResponseEntity<Object>>> call) {
+        CompletableFuture<ResponseEntity<Object>> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+
+        CompletableFuture.delayedExecutor(hedgeDelay(client).toNanos(), TimeUnit.NANOSECONDS,
+                        task -> dispatch(task, () -> { }))
+                .execute(() -> {
+                    if (winner.isDone() || !budget.tryWithdraw()) {
+                        return;
+                    }
+                    if (pending.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+                        budget.refund();
+                        return;
+                    }
+                    hedged.increment();
+                    timed(client, call).whenComplete((result, e) -> complete(winner, pending, result, e));
+                });
+        primary(client, call).whenComplete((result, e) -> complete(winner, pending, result, e));
+        return winner;
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> primary(String client,
+                                                              Supplier<CompletableFuture<ResponseEntity<Object>>> call) {
+        if (blockingTransport) {
+            try {
+                return CompletableFuture.supplyAsync(() -> timed(client, call), executor).thenCompose(next -> next);
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                log.debug("Очередь запросов к {} переполнена, основной запрос выполняется в вызывающем потоке", client);
+            }
+        }
+        return timed(client, call);
+    }
+
+    private void dispatch(Runnable task, Runnable onRejected) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.debug("Очередь повторных запросов переполнена, повтор пропущен");
+            onRejected.run();
+        }
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> timed(String client,
+                                                            Supplier<CompletableFuture<ResponseEntity<Object>>> call) {
+        long start = System.nanoTime();
+        CompletableFuture<ResponseEntity<Object>> response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        return response.whenComplete((result, e) -> {
+            if (!isRetryable(result, e)) {
+                latency(client).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private static void complete(CompletableFuture<ResponseEntity<Object>> winner, AtomicInteger pending,
+                                 ResponseEntity<Object> result, Throwable e) {
+        boolean last = pending.decrementAndGet() == 0;
+        if (!isRetryable(result, e) || last) {
+            if (e != null) {
+                winner.completeExceptionally(e);
+            } else {
+                winner.complete(result);
+            }
+        }
+    }
+
+    private Duration hedgeDelay(String client) {
+        RetryProperties.Hedging hedging = properties.getHedging();
+        Timer timer = latency(client);
+        if (timer.count() < hedging.getMinSamples()) {
+            return hedging.getDelay();
+        }
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.95) {
+                Duration p95 = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+                return p95.compareTo(hedging.getMinDelay()) > 0 ? p95 : hedging.getMinDelay();
+            }
+        }
+        return hedging.getDelay();
+    }
+
+    private Timer latency(String client) {
+        return latencies.computeIfAbsent(client, name -> Timer.builder("gateway.server.latency")
+                .tag("client", name)
+                .publishPercentiles(0.95)
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(meterRegistry));
+    }
+
+    private long backoff(int attempt) {
+        long ceiling = Math.min(properties.getMaxBackoff().toMillis(),
+                properties.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static boolean isRetryable(ResponseEntity<Object> result, Throwable e) {
+        if (e != null) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            return !(cause instanceof ServiceUnavailableException);
+        }
+        return RETRYABLE.contains(result.getStatusCode());
+    }
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shareit-gateway.retry")
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RetryProperties {
+    boolean enabled = true;
+    int maxAttempts = 3;
+    Duration initialBackoff = Duration.ofMillis(50);
+    Duration maxBackoff = Duration.ofMillis(500);
+    int poolSize = 32;
+    int queueCapacity = 256;
+    Budget budget = new Budget();
+    Hedging hedging = new Hedging();
+
+    @Getter
+    @Setter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Budget {
+        double ratio = 0.1;
+        int maxTokens = 100;
+    }
+
+    @Getter
+    @Setter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Hedging {
+        boolean enabled = false;
+        Duration delay = Duration.ofMillis(100);
+        Duration minDelay = Duration.ofMillis(10);
+        long minSamples = 100;
+    }
+}
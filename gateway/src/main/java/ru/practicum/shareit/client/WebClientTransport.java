@@ -0,0 +1,61 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = GatewayTransport.PROPERTY, havingValue = "web-client")
+public class WebClientTransport implements GatewayTransport {
+    private final WebClient webClient;
+    private final Class<?> bodyType;
+    private final WireFormat wireFormat;
+    private final boolean acceptGzip;
+
+    public WebClientTransport(@Value("${shareit-gateway.passthrough}") boolean passthrough,
+                              @Value(WireFormat.PROPERTY) WireFormat wireFormat,
+                              HttpClientProperties properties, WebClient.Builder builder,
+                              Jackson2ObjectMapperBuilder jacksonBuilder) {
+        this.wireFormat = wireFormat;
+        acceptGzip = properties.isCompression() && GatewayTransport.isRawBody(passthrough, wireFormat);
+        bodyType = GatewayTransport.bodyType(passthrough, wireFormat);
+        if (wireFormat == WireFormat.SMILE) {
+            ObjectMapper smileMapper = GatewayTransport.smileMapper(jacksonBuilder);
+            builder.codecs(codecs -> {
+                codecs.customCodecs().registerWithDefaultConfig(new Jackson2SmileEncoder(smileMapper));
+                codecs.customCodecs().registerWithDefaultConfig(new Jackson2SmileDecoder(smileMapper));
+            });
+        }
+        webClient = builder.build();
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Object>> exchange(HttpMethod method, String url, HttpHeaders headers,
+                                                              @Nullable Map<String, Object> parameters,
+                                                              @Nullable Object body) {
+        HttpHeaders wireHeaders = GatewayTransport.withWireFormat(headers, wireFormat, acceptGzip);
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(url, parameters != null ? parameters : Map.of())
+                .headers(requestHeaders -> requestHeaders.addAll(wireHeaders));
+        WebClient.RequestHeadersSpec<?> spec = body != null ? request.bodyValue(body) : request;
+        return spec.exchangeToMono(this::toResponseEntity).toFuture();
+    }
+
+    private Mono<ResponseEntity<Object>> toResponseEntity(ClientResponse response) {
+        return response.toEntity(bodyType).map(GatewayTransport::toObjectEntity);
+    }
+}
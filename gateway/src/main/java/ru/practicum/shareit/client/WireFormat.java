@@ -0,0 +1,18 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    public static final String PROPERTY = "${shareit-gateway.wire-format}";
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+}
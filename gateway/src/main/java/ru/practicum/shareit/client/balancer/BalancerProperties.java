@@ -0,0 +1,26 @@
+package ru.practicum.shareit.client.balancer;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shareit-gateway.balancer")
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BalancerProperties {
+    Strategy strategy = Strategy.POWER_OF_TWO_CHOICES;
+    String healthCheckPath = "/actuator/health";
+    Duration healthCheckInterval = Duration.ofSeconds(5);
+    Duration healthCheckTimeout = Duration.ofSeconds(1);
+    int failureThreshold = 3;
+
+    public enum Strategy {
+        POWER_OF_TWO_CHOICES,
+        LEAST_OUTSTANDING
+    }
+}
@@ -0,0 +1,154 @@
+package ru.practicum.shareit.client.balancer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.constants.Constants;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class ServerBalancer {
+    private static final Set<HttpStatus> UNAVAILABLE = EnumSet.of(HttpStatus.BAD_GATEWAY,
+            HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.GATEWAY_TIMEOUT);
+
+    private final BalancerProperties properties;
+    private final List<ServerNode> nodes;
+    private final RestTemplate healthCheck;
+    private final ScheduledExecutorService scheduler;
+
+    public ServerBalancer(@Value(Constants.headerServerUrl) List<String> serverUrls, BalancerProperties properties,
+                          RestTemplateBuilder builder, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        nodes = serverUrls.stream()
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .map(url -> url.endsWith("/") ? url.substring(0, url.length() - 1) : url)
+                .distinct()
+                .map(ServerNode::new)
+                .collect(Collectors.toUnmodifiableList());
+        if (nodes.isEmpty()) {
+            throw new IllegalStateException("Не задан ни один адрес сервера в shareit-server.url");
+        }
+        healthCheck = builder
+                .setConnectTimeout(properties.getHealthCheckTimeout())
+                .setReadTimeout(properties.getHealthCheckTimeout())
+                .build();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("server-health-check-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+
+        for (ServerNode node : nodes) {
+            Gauge.builder("gateway.balancer.outstanding", node, ServerNode::getOutstanding)
+                    .tag("node", node.getUrl())
+                    .register(meterRegistry);
+            Gauge.builder("gateway.balancer.healthy", node, server -> server.isHealthy() ? 1 : 0)
+                    .tag("node", node.getUrl())
+                    .register(meterRegistry);
+        }
+    }
+
+    @PostConstruct
+    public void startHealthChecks() {
+        long interval = properties.getHealthCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopHealthChecks() {
+        scheduler.shutdownNow();
+    }
+
+    public ServerNode acquire() {
+        List<ServerNode> candidates = nodes.stream()
+                .filter(ServerNode::isHealthy)
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            candidates = nodes;
+        }
+
+        ServerNode node = properties.getStrategy() == BalancerProperties.Strategy.LEAST_OUTSTANDING
+                ? leastOutstanding(candidates)
+                : powerOfTwoChoices(candidates);
+        node.acquire();
+        return node;
+    }
+
+    public void release(ServerNode node, @Nullable ResponseEntity<?> response, @Nullable Throwable error) {
+        node.release();
+        if (error != null || response == null || UNAVAILABLE.contains(response.getStatusCode())) {
+            if (node.markFailure(properties.getFailureThreshold())) {
+                log.warn("Сервер {} исключён из балансировки после {} ошибок подряд", node.getUrl(),
+                        properties.getFailureThreshold());
+            }
+        } else {
+            node.markSuccess();
+        }
+    }
+
+    List<ServerNode> getNodes() {
+        return nodes;
+    }
+
+    void checkHealth() {
+        for (ServerNode node : nodes) {
+            boolean healthy;
+            try {
+                healthy = healthCheck.getForEntity(node.getUrl() + properties.getHealthCheckPath(), String.class)
+                        .getStatusCode()
+                        .is2xxSuccessful();
+            } catch (RuntimeException e) {
+                healthy = false;
+            }
+            if (healthy != node.isHealthy()) {
+                log.warn("Сервер {} {}", node.getUrl(), healthy ? "снова доступен" : "не прошёл проверку здоровья");
+            }
+            node.setHealthy(healthy);
+        }
+    }
+
+    private static ServerNode powerOfTwoChoices(List<ServerNode> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServerNode a = candidates.get(first);
+        ServerNode b = candidates.get(second);
+        return a.getOutstanding() <= b.getOutstanding() ? a : b;
+    }
+
+    private static ServerNode leastOutstanding(List<ServerNode> candidates) {
+        int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+        ServerNode best = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            ServerNode node = candidates.get((offset + i) % candidates.size());
+            if (best == null || node.getOutstanding() < best.getOutstanding()) {
+                best = node;
+            }
+        }
+        return best;
+    }
+}
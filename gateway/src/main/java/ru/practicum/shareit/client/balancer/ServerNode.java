@@ -0,0 +1,52 @@
+package ru.practicum.shareit.client.balancer;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ServerNode {
+    @Getter
+    private final String url;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile boolean healthy = true;
+
+    ServerNode(String url) {
+        this.url = url;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    void acquire() {
+        outstanding.incrementAndGet();
+    }
+
+    void release() {
+        outstanding.decrementAndGet();
+    }
+
+    void markSuccess() {
+        failures.set(0);
+    }
+
+    boolean markFailure(int threshold) {
+        if (failures.incrementAndGet() >= threshold && healthy) {
+            healthy = false;
+            return true;
+        }
+        return false;
+    }
+
+    void setHealthy(boolean healthy) {
+        if (healthy) {
+            failures.set(0);
+        }
+        this.healthy = healthy;
+    }
+}
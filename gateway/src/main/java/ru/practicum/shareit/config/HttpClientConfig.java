@@ -0,0 +1,103 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.client.GatewayTransport;
+import ru.practicum.shareit.client.HttpClientProperties;
+import ru.practicum.shareit.client.WireFormat;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class HttpClientConfig {
+    public static final String POOL_NAME = "shareit-server";
+
+    @Bean
+    @ConditionalOnProperty(name = GatewayTransport.PROPERTY, havingValue = "rest-template", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager connectionManager(HttpClientProperties properties,
+                                                                MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                properties.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(properties.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+        connectionManager.setValidateAfterInactivity((int) properties.getValidateAfterInactivity().toMillis());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = GatewayTransport.PROPERTY, havingValue = "rest-template", matchIfMissing = true)
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+                                          HttpClientProperties properties,
+                                          @Value("${shareit-gateway.passthrough}") boolean passthrough,
+                                          @Value(WireFormat.PROPERTY) WireFormat wireFormat) {
+        if (properties.getProtocol() == HttpClientProperties.Protocol.H2C) {
+            throw new IllegalStateException("Протокол h2c поддерживается только транспортом web-client");
+        }
+        long keepAlive = properties.getKeepAlive().toMillis();
+        HttpClientBuilder builder = HttpClients.custom();
+        if (!properties.isCompression() || GatewayTransport.isRawBody(passthrough, wireFormat)) {
+            builder.disableContentCompression();
+        }
+        return builder
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(properties.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                        .setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis())
+                        .setSocketTimeout((int) properties.getReadTimeout().toMillis())
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(name = GatewayTransport.PROPERTY, havingValue = "web-client")
+    public ConnectionProvider connectionProvider(HttpClientProperties properties) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.getMaxPerRoute())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleTimeout())
+                .maxLifeTime(properties.getTimeToLive())
+                .evictInBackground(properties.getIdleTimeout())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = GatewayTransport.PROPERTY, havingValue = "web-client")
+    public ReactorClientHttpConnector clientHttpConnector(ConnectionProvider connectionProvider,
+                                                          HttpClientProperties properties,
+                                                          @Value("${shareit-gateway.passthrough}") boolean passthrough,
+                                                          @Value(WireFormat.PROPERTY) WireFormat wireFormat) {
+        HttpProtocol protocol = properties.getProtocol() == HttpClientProperties.Protocol.H2C
+                ? HttpProtocol.H2C
+                : HttpProtocol.HTTP11;
+        return new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                .protocol(protocol)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout())
+                .compress(properties.isCompression() && !GatewayTransport.isRawBody(passthrough, wireFormat))
+                .keepAlive(true));
+    }
+}
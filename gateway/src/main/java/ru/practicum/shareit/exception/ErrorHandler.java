@@ -1,7 +1,9 @@
 package ru.practicum.shareit.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -30,11 +32,26 @@ public class ErrorHandler {
         return new ErrorResponse(exception.getMessage());
     }
 
+    @ExceptionHandler({TooManyRequestsException.class})
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(final TooManyRequestsException exception) {
+        log.warn(exception.toString());
+        long retryAfter = Math.max(1, (exception.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .body(new ErrorResponse(exception.getMessage()));
+    }
+
+    @ExceptionHandler({ServiceUnavailableException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleServiceUnavailable(final RuntimeException exception) {
+        log.warn(exception.toString());
+        return new ErrorResponse(exception.getMessage());
+    }
 
     @ExceptionHandler
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleException(final RuntimeException exception) {
-        log.error("400 {}", exception.getMessage(), exception);
+        log.error("500 {}", exception.getMessage(), exception);
         return new ErrorResponse(exception.getMessage());
     }
 }
\ No newline at end of file
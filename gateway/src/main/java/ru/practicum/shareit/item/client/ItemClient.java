@@ -1,63 +1,61 @@
 package ru.practicum.shareit.item.client;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
-import ru.practicum.shareit.constants.Constants;
+import ru.practicum.shareit.client.GatewayTransport;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResilienceGuard;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.RetryExecutor;
+import ru.practicum.shareit.client.balancer.ServerBalancer;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemExtendedDto;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class ItemClient extends BaseClient {
 
     private static final String API_PREFIX = "/items";
 
-    @Autowired
-    public ItemClient(@Value(Constants.headerServerUrl) String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(GatewayTransport transport, ServerBalancer serverBalancer, ResponseCache responseCache,
+                      RequestCoalescer requestCoalescer, RetryExecutor retryExecutor,
+                      ResilienceGuard resilienceGuard) {
+        super(transport, serverBalancer, responseCache, requestCoalescer, retryExecutor, resilienceGuard,
+                API_PREFIX);
     }
 
-    public ResponseEntity<Object> add(long userId, ItemExtendedDto itemExtendedDto) {
+    public CompletableFuture<ResponseEntity<Object>> add(long userId, ItemExtendedDto itemExtendedDto) {
 
         return post("", userId, itemExtendedDto);
     }
 
-    public ResponseEntity<Object> addComment(long userId, long id, CommentDto commentDto) {
+    public CompletableFuture<ResponseEntity<Object>> addComment(long userId, long id, CommentDto commentDto) {
 
         return post("/" + id + "/comment", userId, commentDto);
     }
 
-    public ResponseEntity<Object> getById(long userId, long id) {
-        return get("/" + id, userId);
+    public CompletableFuture<ResponseEntity<Object>> getById(long userId, long id) {
+        return cachedGet("items-by-id", "/" + id, userId);
     }
 
-    public ResponseEntity<Object> getByOwnerId(long userId, int from, int size) {
+    public CompletableFuture<ResponseEntity<Object>> getByOwnerId(long userId, int from, int size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
         );
 
-        return get("?from={from}&size={size}", userId, parameters);
+        return cachedGet("items-by-owner", "?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> search(String text, Long userId, int from, int size) {
+    public CompletableFuture<ResponseEntity<Object>> search(String text, Long userId, int from, int size) {
         if (text.isBlank()) {
-            return ResponseEntity.status(HttpStatus.OK).body(List.of());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.OK).body(List.of()));
         }
 
         Map<String, Object> parameters = Map.of(
@@ -65,15 +63,26 @@ public class ItemClient extends BaseClient {
                 "from", from,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        return cachedGet("items-search", "/search?text={text}&from={from}&size={size}", userId, parameters);
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> suggest(String prefix, Long userId) {
+        if (prefix.isBlank()) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.OK).body(List.of()));
+        }
+
+        Map<String, Object> parameters = Map.of(
+                "prefix", prefix
+        );
+        return cachedGet("items-suggest", "/suggest?prefix={prefix}", userId, parameters);
     }
 
-    public ResponseEntity<Object> update(long userId, long id, ItemDto itemDto) {
+    public CompletableFuture<ResponseEntity<Object>> update(long userId, long id, ItemDto itemDto) {
 
         return patch("/" + id, userId, itemDto);
     }
 
-    public void deleteItem(long id) {
-        delete("/" + id);
+    public CompletableFuture<Void> deleteItem(long id) {
+        return delete("/" + id).thenApply(response -> null);
     }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import ru.practicum.shareit.item.dto.ItemExtendedDto;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/items")
@@ -24,7 +25,7 @@ public class ItemController {
     private final ItemClient itemClient;
 
     @GetMapping
-    public ResponseEntity<Object> getByOwnerId(
+    public CompletableFuture<ResponseEntity<Object>> getByOwnerId(
             @RequestHeader(Constants.headerUserId) Long userId,
             @RequestParam(defaultValue = Constants.pageFrom) @PositiveOrZero Integer from,
             @RequestParam(defaultValue = Constants.pageSize) @Positive Integer size) {
@@ -33,36 +34,36 @@ public class ItemController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getById(@RequestHeader(Constants.headerUserId) Long userId,
-                                          @PathVariable Long id) {
+    public CompletableFuture<ResponseEntity<Object>> getById(@RequestHeader(Constants.headerUserId) Long userId,
+                                                             @PathVariable Long id) {
         log.info("Получен запрос GET /items/id  запрос на вещь с id" + id);
         return itemClient.getById(userId, id);
     }
 
     @Validated
     @PostMapping
-    public ResponseEntity<Object> add(@RequestHeader(Constants.headerUserId) Long userId,
-                                      @Valid @RequestBody ItemExtendedDto itemExtendedDto) {
+    public CompletableFuture<ResponseEntity<Object>> add(@RequestHeader(Constants.headerUserId) Long userId,
+                                                         @Valid @RequestBody ItemExtendedDto itemExtendedDto) {
         log.info("Получен запрос POST /items " + itemExtendedDto);
         return itemClient.add(userId, itemExtendedDto);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> update(@RequestHeader(Constants.headerUserId) Long userId,
-                                         @PathVariable Long id,
-                                         @RequestBody ItemDto itemDto) {
+    public CompletableFuture<ResponseEntity<Object>> update(@RequestHeader(Constants.headerUserId) Long userId,
+                                                            @PathVariable Long id,
+                                                            @RequestBody ItemDto itemDto) {
         log.info("Получен запрос PATCH /items/id " + "!Обновление вещи с id" + id + " на " + itemDto + " юзер с id" + userId);
         return itemClient.update(userId, id, itemDto);
     }
 
     @DeleteMapping("/{id}")
-    public void delete(@PathVariable Long id) {
+    public CompletableFuture<Void> delete(@PathVariable Long id) {
         log.info("Получен запрос POST /items/id " + id);
-        itemClient.deleteItem(id);
+        return itemClient.deleteItem(id);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> search(
+    public CompletableFuture<ResponseEntity<Object>> search(
             @RequestHeader(Constants.headerUserId) Long userId,
             @RequestParam String text,
             @RequestParam(defaultValue = Constants.pageFrom) @PositiveOrZero Integer from,
@@ -71,10 +72,17 @@ public class ItemController {
         return itemClient.search(text, userId, from, size);
     }
 
+    @GetMapping("/suggest")
+    public CompletableFuture<ResponseEntity<Object>> suggest(@RequestHeader(Constants.headerUserId) Long userId,
+                                                             @RequestParam String prefix) {
+        log.info("Получен запрос GET /items/suggest " + prefix);
+        return itemClient.suggest(prefix, userId);
+    }
+
     @PostMapping("{id}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader(Constants.headerUserId) long userId,
-                                             @PathVariable long id,
-                                             @Valid @RequestBody CommentDto commentDto) {
+    public CompletableFuture<ResponseEntity<Object>> addComment(@RequestHeader(Constants.headerUserId) long userId,
+                                                                @PathVariable long id,
+                                                                @Valid @RequestBody CommentDto commentDto) {
         return itemClient.addComment(userId, id, commentDto);
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.practicum.shareit.constants.Constants;
+import ru.practicum.shareit.exception.TooManyRequestsException;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!rateLimiter.isEnabled() || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : request.getRequestURI();
+        String userId = request.getHeader(Constants.headerUserId);
+        String client = userId != null ? userId : request.getRemoteAddr();
+
+        Duration retryAfter = rateLimiter.tryAcquire(request.getMethod(), route, client);
+        if (retryAfter.isZero()) {
+            return true;
+        }
+        log.debug("Превышен лимит запросов {} {} для клиента {}", request.getMethod(), route, client);
+        throw new TooManyRequestsException("Превышен лимит запросов, повторите запрос позже", retryAfter);
+    }
+}
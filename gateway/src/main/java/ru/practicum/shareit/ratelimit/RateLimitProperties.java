@@ -0,0 +1,44 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "shareit-gateway.rate-limit")
+@Validated
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RateLimitProperties {
+    boolean enabled = false;
+    Duration idleTimeout = Duration.ofMinutes(10);
+    long maximumKeys = 100_000;
+    @Valid
+    Limit defaults = new Limit();
+    @Valid
+    Limit perUser = new Limit(200, 100);
+    Map<String, @Valid Limit> routes = new HashMap<>();
+
+    @Getter
+    @Setter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        @Positive
+        int capacity = 100;
+        @Positive
+        double tokensPerSecond = 50;
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RateLimiter {
+    private static final String ALL = "*";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<Key, TokenBucket> buckets;
+    private final Map<String, Counter> rejected = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "gateway-rate-limit-buckets");
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public Duration tryAcquire(String method, String route, String client) {
+        long now = System.nanoTime();
+        TokenBucket userBucket = buckets.get(new Key(ALL, ALL, client),
+                key -> new TokenBucket(properties.getPerUser()));
+        long wait = userBucket.tryConsume(now);
+        if (wait != 0) {
+            return reject(ALL, ALL, wait);
+        }
+        TokenBucket routeBucket = buckets.get(new Key(method, route, client), key -> new TokenBucket(limit(route)));
+        wait = routeBucket.tryConsume(now);
+        if (wait != 0) {
+            userBucket.refund();
+            return reject(method, route, wait);
+        }
+        return Duration.ZERO;
+    }
+
+    private Duration reject(String method, String route, long wait) {
+        rejected.computeIfAbsent(method + " " + route, ignored -> Counter.builder("gateway.rate-limit.rejected")
+                        .tag("method", method)
+                        .tag("route", route)
+                        .register(meterRegistry))
+                .increment();
+        return Duration.ofNanos(wait);
+    }
+
+    private RateLimitProperties.Limit limit(String route) {
+        return properties.getRoutes().getOrDefault(route, properties.getDefaults());
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        String method;
+        String route;
+        String client;
+    }
+}
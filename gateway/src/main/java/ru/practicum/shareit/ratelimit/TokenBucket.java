@@ -0,0 +1,32 @@
+package ru.practicum.shareit.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class TokenBucket {
+    private final long interval;
+    private final long burst;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(RateLimitProperties.Limit limit) {
+        interval = Math.max(1, (long) (1_000_000_000L / limit.getTokensPerSecond()));
+        burst = interval * limit.getCapacity();
+    }
+
+    long tryConsume(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    void refund() {
+        theoreticalArrival.addAndGet(-interval);
+    }
+}
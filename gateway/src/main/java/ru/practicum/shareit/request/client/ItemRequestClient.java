@@ -1,52 +1,50 @@
 package ru.practicum.shareit.request.client;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
-import ru.practicum.shareit.constants.Constants;
+import ru.practicum.shareit.client.GatewayTransport;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResilienceGuard;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.RetryExecutor;
+import ru.practicum.shareit.client.balancer.ServerBalancer;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class ItemRequestClient extends BaseClient {
 
     private static final String API_PREFIX = "/requests";
 
-    @Autowired
-    public ItemRequestClient(@Value(Constants.headerServerUrl) String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemRequestClient(GatewayTransport transport, ServerBalancer serverBalancer, ResponseCache responseCache,
+                             RequestCoalescer requestCoalescer, RetryExecutor retryExecutor,
+                             ResilienceGuard resilienceGuard) {
+        super(transport, serverBalancer, responseCache, requestCoalescer, retryExecutor, resilienceGuard,
+                API_PREFIX);
     }
 
-    public ResponseEntity<Object> add(long userId, ItemRequestDto itemRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> add(long userId, ItemRequestDto itemRequestDto) {
         return post("", userId, itemRequestDto);
     }
 
-    public ResponseEntity<Object> getById(long userId, long id) {
-        return get("/" + id, userId);
+    public CompletableFuture<ResponseEntity<Object>> getById(long userId, long id) {
+        return cachedGet("requests-by-id", "/" + id, userId);
     }
 
-    public ResponseEntity<Object> getByRequestorId(long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getByRequestorId(long userId) {
 
-        return get("", userId);
+        return cachedGet("requests-by-requestor", "", userId);
     }
 
-    public ResponseEntity<Object> getAll(long userId, Integer from, Integer size) {
+    public CompletableFuture<ResponseEntity<Object>> getAll(long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
         );
 
-        return get("/all?from={from}&size={size}", userId, parameters);
+        return cachedGet("requests-all", "/all?from={from}&size={size}", userId, parameters);
     }
 }
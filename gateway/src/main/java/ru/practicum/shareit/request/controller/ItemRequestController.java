@@ -12,6 +12,7 @@ import ru.practicum.shareit.request.dto.ItemRequestDto;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping(path = "/requests")
@@ -22,7 +23,7 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
     @PostMapping
-    public ResponseEntity<Object> add(
+    public CompletableFuture<ResponseEntity<Object>> add(
             @RequestHeader(Constants.headerUserId) Long userId,
             @Valid @RequestBody ItemRequestDto itemRequestDto) {
         log.info("Получен запрос POST  " + userId);
@@ -30,7 +31,7 @@ public class ItemRequestController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getById(
+    public CompletableFuture<ResponseEntity<Object>> getById(
             @RequestHeader(Constants.headerUserId) Long userId,
             @PathVariable Long id) {
         log.info("Получен запрос GET вещи с id: " + id + "пользователя с id: " + userId);
@@ -38,14 +39,14 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> getByRequestorId(
+    public CompletableFuture<ResponseEntity<Object>> getByRequestorId(
             @RequestHeader(Constants.headerUserId) Long userId) {
         log.info("Получен запрос GET в соответсвии с RequestId");
         return itemRequestClient.getByRequestorId(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAll(
+    public CompletableFuture<ResponseEntity<Object>> getAll(
             @RequestHeader(Constants.headerUserId) Long userId,
             @RequestParam(defaultValue = Constants.pageFrom) @PositiveOrZero Integer from,
             @RequestParam(defaultValue = Constants.pageSize) @Positive Integer size) {
@@ -1,54 +1,52 @@
 package ru.practicum.shareit.user.client;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
-import ru.practicum.shareit.constants.Constants;
+import ru.practicum.shareit.client.GatewayTransport;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResilienceGuard;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.RetryExecutor;
+import ru.practicum.shareit.client.balancer.ServerBalancer;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class UserClient extends BaseClient {
 
     private static final String API_PREFIX = "/users";
 
-    @Autowired
-    public UserClient(@Value(Constants.headerServerUrl) String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public UserClient(GatewayTransport transport, ServerBalancer serverBalancer, ResponseCache responseCache,
+                      RequestCoalescer requestCoalescer, RetryExecutor retryExecutor,
+                      ResilienceGuard resilienceGuard) {
+        super(transport, serverBalancer, responseCache, requestCoalescer, retryExecutor, resilienceGuard,
+                API_PREFIX);
     }
 
-    public ResponseEntity<Object> add(UserDto userDto) {
+    public CompletableFuture<ResponseEntity<Object>> add(UserDto userDto) {
 
         return post("", userDto);
     }
 
-    public ResponseEntity<Object> getById(long id) {
+    public CompletableFuture<ResponseEntity<Object>> getById(long id) {
 
-        return get("/" + id);
+        return cachedGet("users-by-id", "/" + id);
     }
 
-    public ResponseEntity<Object> getAll() {
-        return get("");
+    public CompletableFuture<ResponseEntity<Object>> getAll() {
+        return cachedGet("users-all", "");
     }
 
-    public ResponseEntity<Object> update(@RequestBody @Valid UserDto userDto, long id) {
+    public CompletableFuture<ResponseEntity<Object>> update(@RequestBody @Valid UserDto userDto, long id) {
 
         return patch("/" + id, userDto);
     }
 
-    public void deleteUser(long id) {
-        delete("/" + id);
+    public CompletableFuture<Void> deleteUser(long id) {
+        return delete("/" + id).thenApply(response -> null);
     }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import ru.practicum.shareit.user.client.UserClient;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping(path = "/users")
@@ -18,20 +19,20 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAll() {
+    public CompletableFuture<ResponseEntity<Object>> getAll() {
         log.info("Получен запрос GET /users");
         return userClient.getAll();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getById(
+    public CompletableFuture<ResponseEntity<Object>> getById(
             @PathVariable Long id) {
         log.info("Получен запрос GET /users/id " + id);
         return userClient.getById(id);
     }
 
     @PostMapping
-    public ResponseEntity<Object> add(
+    public CompletableFuture<ResponseEntity<Object>> add(
             @Valid
             @RequestBody UserDto userDto) {
         log.info("Получен запрос POST /users " + userDto);
@@ -39,16 +40,16 @@ public class UserController {
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> update(@PathVariable Long id,
-                                         @RequestBody UserDto userDto) {
+    public CompletableFuture<ResponseEntity<Object>> update(@PathVariable Long id,
+                                                            @RequestBody UserDto userDto) {
         log.info("Получен запрос PATCH /users/id " + "!Обновление пользователя с id " + id + " на " + userDto);
         return userClient.update(userDto, id);
     }
 
     @DeleteMapping("/{id}")
-    public void delete(
+    public CompletableFuture<Void> delete(
             @PathVariable Long id) {
         log.info("Получен запрос POST /users/id " + id);
-        userClient.deleteUser(id);
+        return userClient.deleteUser(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import ru.practicum.shareit.client.GatewayTransport;
+import ru.practicum.shareit.constants.Constants;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "shareit-gateway.rate-limit.enabled=true",
+        "shareit-gateway.rate-limit.routes[/items/{id}].capacity=1",
+        "shareit-gateway.rate-limit.routes[/items/{id}].tokens-per-second=0.5",
+        "shareit-gateway.rate-limit.per-user.capacity=3",
+        "shareit-gateway.rate-limit.per-user.tokens-per-second=0.5"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class RateLimitTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private GatewayTransport transport;
+
+    @BeforeEach
+    public void beforeEach() {
+        when(transport.exchange(any(), anyString(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(ResponseEntity.ok().build()));
+    }
+
+    private ResultActions getItem(long userId, long id) throws Exception {
+        return mockMvc.perform(get("/items/{id}", id)
+                .header(Constants.headerUserId, userId));
+    }
+
+    @Test
+    public void shouldRejectRequestOverLimitWithRetryAfter() throws Exception {
+        getItem(1, 1).andExpect(request().asyncStarted());
+
+        getItem(1, 2)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.error").value("Превышен лимит запросов, повторите запрос позже"));
+        verify(transport, times(1)).exchange(any(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldLimitEachUserSeparately() throws Exception {
+        getItem(1, 1).andExpect(request().asyncStarted());
+
+        getItem(2, 1).andExpect(request().asyncStarted());
+    }
+
+    @Test
+    public void shouldNotLimitOtherRoutesWithRouteLimit() throws Exception {
+        getItem(1, 1).andExpect(request().asyncStarted());
+
+        mockMvc.perform(get("/items")
+                        .header(Constants.headerUserId, 1))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    public void shouldLimitEachMethodOfRouteSeparately() throws Exception {
+        getItem(1, 1).andExpect(request().asyncStarted());
+
+        mockMvc.perform(delete("/items/{id}", 1)
+                        .header(Constants.headerUserId, 1))
+                .andExpect(request().asyncStarted());
+        getItem(1, 1).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    public void shouldLimitUserAcrossRoutes() throws Exception {
+        getItem(1, 1).andExpect(request().asyncStarted());
+        mockMvc.perform(get("/items")
+                        .header(Constants.headerUserId, 1))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(get("/requests")
+                        .header(Constants.headerUserId, 1))
+                .andExpect(request().asyncStarted());
+
+        mockMvc.perform(get("/bookings")
+                        .header(Constants.headerUserId, 1))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+        getItem(2, 1).andExpect(request().asyncStarted());
+    }
+
+    @Test
+    public void shouldNotSpendUserLimitOnRouteRejection() throws Exception {
+        getItem(1, 1).andExpect(request().asyncStarted());
+        getItem(1, 1).andExpect(status().isTooManyRequests());
+        getItem(1, 1).andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/items")
+                        .header(Constants.headerUserId, 1))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(get("/requests")
+                        .header(Constants.headerUserId, 1))
+                .andExpect(request().asyncStarted());
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.client.GatewayTransport;
+import ru.practicum.shareit.constants.Constants;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "resilience4j.bulkhead.instances.items.max-concurrent-calls=1",
+        "shareit-gateway.coalescing.enabled=false"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ServiceUnavailableTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+    @MockBean
+    private GatewayTransport transport;
+
+    private final CompletableFuture<ResponseEntity<Object>> pending = new CompletableFuture<>();
+
+    @AfterEach
+    public void afterEach() {
+        pending.complete(ResponseEntity.ok().build());
+    }
+
+    private MvcResult getItem(long id) throws Exception {
+        return mockMvc.perform(get("/items/{id}", id)
+                        .header(Constants.headerUserId, 1))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @Test
+    public void shouldReturnServiceUnavailableIfBulkheadIsFull() throws Exception {
+        when(transport.exchange(any(), anyString(), any(), any(), any())).thenReturn(pending);
+        getItem(1);
+
+        mockMvc.perform(asyncDispatch(getItem(2)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value(
+                        "Слишком много одновременных запросов к сервису items, повторите запрос позже"));
+
+        pending.complete(ResponseEntity.ok().build());
+        assertEquals(1, bulkheadRegistry.bulkhead("items").getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    public void shouldReturnServiceUnavailableIfCircuitBreakerIsOpen() throws Exception {
+        circuitBreakerRegistry.circuitBreaker("items").transitionToOpenState();
+
+        mockMvc.perform(asyncDispatch(getItem(1)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value(
+                        "Сервис items временно недоступен, повторите запрос позже"));
+        verify(transport, never()).exchange(any(), anyString(), any(), any(), any());
+    }
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import ru.practicum.shareit.client.GatewayTransport;
+import ru.practicum.shareit.client.WireFormat;
+import ru.practicum.shareit.constants.Constants;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "shareit-gateway.wire-format=smile")
+@AutoConfigureMockMvc
+public class WireFormatTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+    @SpyBean
+    private GatewayTransport transport;
+
+    @BeforeEach
+    public void beforeEach() {
+        doReturn(CompletableFuture.completedFuture(ResponseEntity.ok(Map.of("name", "Дрель"))))
+                .when(transport).exchange(any(), anyString(), any(), any(), any());
+    }
+
+    private MvcResult getItem(MediaType accept) throws Exception {
+        return mockMvc.perform(get("/items/{id}", 1)
+                        .header(Constants.headerUserId, 1)
+                        .header(HttpHeaders.ACCEPT, accept.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @Test
+    public void shouldRegisterSmileOnlyOnTransport() {
+        RestTemplate rest = (RestTemplate) ReflectionTestUtils.getField(transport, "rest");
+
+        assertEquals(1, rest.getMessageConverters().stream()
+                .filter(MappingJackson2SmileHttpMessageConverter.class::isInstance)
+                .count());
+        assertFalse(handlerAdapter.getMessageConverters().stream()
+                .anyMatch(MappingJackson2SmileHttpMessageConverter.class::isInstance));
+    }
+
+    @Test
+    public void shouldNotServeSmileToExternalClients() throws Exception {
+        mockMvc.perform(asyncDispatch(getItem(WireFormat.SMILE.getMediaType())))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    public void shouldServeJsonToExternalClients() throws Exception {
+        mockMvc.perform(asyncDispatch(getItem(MediaType.APPLICATION_JSON)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("Дрель"));
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.client.balancer.BalancerProperties;
+import ru.practicum.shareit.client.balancer.ServerBalancer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BaseClientTest {
+    private static final String SERVER_URL = "http://server";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServerBalancer serverBalancer = new ServerBalancer(List.of(SERVER_URL), new BalancerProperties(),
+            new RestTemplateBuilder(), meterRegistry);
+    private final RetryExecutor retryExecutor;
+
+    public BaseClientTest() {
+        RetryProperties retryProperties = new RetryProperties();
+        retryProperties.setEnabled(false);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        retryExecutor = new RetryExecutor(retryProperties, meterRegistry,
+                beanFactory.getBeanProvider(ExecutorService.class), beanFactory.getBeanProvider(GatewayTransport.class));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        serverBalancer.stopHealthChecks();
+        retryExecutor.shutdown();
+    }
+
+    private BaseClient client(GatewayTransport transport) {
+        return new BaseClient(transport, serverBalancer,
+                new ResponseCache(new ResponseCacheProperties(), meterRegistry),
+                new RequestCoalescer(false, Duration.ofSeconds(5), meterRegistry),
+                retryExecutor,
+                new ResilienceGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults()),
+                "/items") {
+        };
+    }
+
+    private double outstanding() {
+        return meterRegistry.get("gateway.balancer.outstanding")
+                .tag("node", SERVER_URL)
+                .gauge()
+                .value();
+    }
+
+    @Test
+    public void shouldReleaseNodeAfterResponse() {
+        CompletableFuture<ResponseEntity<Object>> response = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> result = client((method, url, headers, parameters, body) -> response)
+                .get("/1");
+
+        assertEquals(1, outstanding());
+
+        response.complete(ResponseEntity.ok("item"));
+
+        assertEquals("item", result.join().getBody());
+        assertEquals(0, outstanding());
+    }
+
+    @Test
+    public void shouldReleaseNodeIfTransportThrows() {
+        BaseClient client = client((method, url, headers, parameters, body) -> {
+            throw new IllegalArgumentException("недопустимый адрес");
+        });
+
+        assertInstanceOf(IllegalArgumentException.class,
+                assertThrows(CompletionException.class, () -> client.get("/1").join()).getCause());
+        assertEquals(0, outstanding());
+    }
+}
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompressedBodyAdviceTest {
+    private static final byte[] JSON = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private final CompressedBodyAdvice advice = new CompressedBodyAdvice();
+    private final ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Object write(Object body, String... acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        for (String value : acceptEncoding) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, value);
+        }
+        return advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), response);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "gzip, deflate, br", "GZIP;Q=0.5", "x-gzip", "*", "deflate;q=0, *;q=0.1",
+            "gzip;q=0, gzip;q=1"})
+    public void shouldPassCompressedBodyIfClientAcceptsGzip(String acceptEncoding) throws IOException {
+        byte[] body = gzip(JSON);
+        response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GatewayTransport.GZIP);
+
+        assertSame(body, write(body, acceptEncoding));
+        assertEquals(GatewayTransport.GZIP, response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip;q=0", "gzip; q=0.0", "identity", "deflate, br", "*;q=0", "*, gzip;q=0",
+            "gzip;q=abc"})
+    public void shouldDecompressBodyIfClientDoesNotAcceptGzip(String acceptEncoding) throws IOException {
+        response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GatewayTransport.GZIP);
+
+        assertArrayEquals(JSON, (byte[]) write(gzip(JSON), acceptEncoding));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+    }
+
+    @Test
+    public void shouldDecompressBodyWithoutAcceptEncoding() throws IOException {
+        response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GatewayTransport.GZIP);
+
+        assertArrayEquals(JSON, (byte[]) write(gzip(JSON)));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+    }
+
+    @Test
+    public void shouldReadAllAcceptEncodingHeaders() throws IOException {
+        byte[] body = gzip(JSON);
+        response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GatewayTransport.GZIP);
+
+        assertSame(body, write(body, "deflate", "gzip"));
+    }
+
+    @Test
+    public void shouldNotDuplicateVary() throws IOException {
+        response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GatewayTransport.GZIP);
+        response.getHeaders().setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        write(gzip(JSON), "gzip");
+
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+    }
+
+    @Test
+    public void shouldNotDuplicateVaryCopiedFromServer() throws IOException {
+        response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GatewayTransport.GZIP);
+        response.getHeaders().set(HttpHeaders.VARY, "origin, accept-encoding");
+
+        write(gzip(JSON), "gzip;q=0");
+
+        assertEquals(List.of("origin", "accept-encoding"), response.getHeaders().getVary());
+    }
+
+    @Test
+    public void shouldLeaveUncompressedBodyAlone() {
+        assertSame(JSON, write(JSON, "gzip;q=0"));
+        assertTrue(response.getHeaders().getVary().isEmpty());
+    }
+
+    @Test
+    public void shouldLeaveDecodedBodyAlone() {
+        Object body = List.of("item");
+        response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GatewayTransport.GZIP);
+
+        assertSame(body, write(body));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.VARY));
+    }
+}
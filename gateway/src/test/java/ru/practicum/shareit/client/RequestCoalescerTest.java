@@ -0,0 +1,143 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RequestCoalescerTest {
+    private static final int CALLERS = 16;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    public void afterEach() {
+        executor.shutdownNow();
+    }
+
+    private List<CompletableFuture<ResponseEntity<Object>>> executeConcurrently(
+            RequestCoalescer requestCoalescer, CompletableFuture<ResponseEntity<Object>> leaderResponse)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CompletableFuture<ResponseEntity<Object>>>> submitted = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            submitted.add(executor.submit(() -> {
+                start.await();
+                return requestCoalescer.execute("/items", "/1", 1L, null, () -> {
+                    calls.incrementAndGet();
+                    return leaderResponse;
+                });
+            }));
+        }
+        start.countDown();
+
+        List<CompletableFuture<ResponseEntity<Object>>> responses = new ArrayList<>();
+        for (Future<CompletableFuture<ResponseEntity<Object>>> future : submitted) {
+            responses.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return responses;
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> execute(RequestCoalescer requestCoalescer) {
+        return requestCoalescer.execute("/items", "/1", 1L, null, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(ResponseEntity.ok("own"));
+        });
+    }
+
+    @Test
+    public void shouldHandLeaderResponseToConcurrentFollowers() throws Exception {
+        RequestCoalescer requestCoalescer = new RequestCoalescer(true, Duration.ofSeconds(5), meterRegistry);
+        CompletableFuture<ResponseEntity<Object>> leaderResponse = new CompletableFuture<>();
+
+        List<CompletableFuture<ResponseEntity<Object>>> responses = executeConcurrently(requestCoalescer,
+                leaderResponse);
+
+        assertEquals(1, calls.get());
+        responses.forEach(response -> assertFalse(response.isDone()));
+
+        ResponseEntity<Object> result = ResponseEntity.ok("leader");
+        leaderResponse.complete(result);
+
+        for (CompletableFuture<ResponseEntity<Object>> response : responses) {
+            assertSame(result, response.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(CALLERS - 1, meterRegistry.counter("gateway.requests.coalesced").count());
+    }
+
+    @Test
+    public void shouldRemoveCompletedLeaderFromInFlight() throws Exception {
+        RequestCoalescer requestCoalescer = new RequestCoalescer(true, Duration.ofSeconds(5), meterRegistry);
+        CompletableFuture<ResponseEntity<Object>> leaderResponse = new CompletableFuture<>();
+        executeConcurrently(requestCoalescer, leaderResponse);
+
+        leaderResponse.complete(ResponseEntity.ok("leader"));
+
+        assertEquals("own", execute(requestCoalescer).get(5, TimeUnit.SECONDS).getBody());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldFailFollowersAndRemoveFailedLeaderFromInFlight() throws Exception {
+        RequestCoalescer requestCoalescer = new RequestCoalescer(true, Duration.ofSeconds(5), meterRegistry);
+        CompletableFuture<ResponseEntity<Object>> leaderResponse = new CompletableFuture<>();
+        List<CompletableFuture<ResponseEntity<Object>>> responses = executeConcurrently(requestCoalescer,
+                leaderResponse);
+
+        IllegalStateException failure = new IllegalStateException("сервер недоступен");
+        leaderResponse.completeExceptionally(failure);
+
+        for (CompletableFuture<ResponseEntity<Object>> response : responses) {
+            assertSame(failure, assertThrows(CompletionException.class, response::join).getCause());
+        }
+        assertEquals("own", execute(requestCoalescer).get(5, TimeUnit.SECONDS).getBody());
+    }
+
+    @Test
+    public void shouldSendOwnRequestIfLeaderTimesOut() throws Exception {
+        RequestCoalescer requestCoalescer = new RequestCoalescer(true, Duration.ofMillis(50), meterRegistry);
+        CompletableFuture<ResponseEntity<Object>> leaderResponse = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> leader = requestCoalescer.execute("/items", "/1", 1L, null,
+                () -> leaderResponse);
+
+        assertEquals("own", execute(requestCoalescer).get(5, TimeUnit.SECONDS).getBody());
+        assertEquals(1, calls.get());
+        assertFalse(leader.isDone());
+
+        leaderResponse.complete(ResponseEntity.ok("leader"));
+        assertEquals("leader", leader.get(5, TimeUnit.SECONDS).getBody());
+    }
+
+    @Test
+    public void shouldNotCoalesceRequestsWithDifferentUsers() throws Exception {
+        RequestCoalescer requestCoalescer = new RequestCoalescer(true, Duration.ofSeconds(5), meterRegistry);
+        requestCoalescer.execute("/items", "/1", 1L, null, CompletableFuture::new);
+
+        requestCoalescer.execute("/items", "/1", 2L, null, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(ResponseEntity.ok("own"));
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, calls.get());
+    }
+}
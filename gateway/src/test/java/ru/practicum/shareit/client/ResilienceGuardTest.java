@@ -0,0 +1,134 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResilienceGuardTest {
+    private static final String CLIENT = "items";
+    private static final int MAX_CONCURRENT_CALLS = 2;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(
+            CircuitBreakerConfig.custom()
+                    .slidingWindowSize(2)
+                    .minimumNumberOfCalls(2)
+                    .failureRateThreshold(50)
+                    .permittedNumberOfCallsInHalfOpenState(1)
+                    .waitDurationInOpenState(Duration.ofMinutes(1))
+                    .build());
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(MAX_CONCURRENT_CALLS)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private final ResilienceGuard resilienceGuard = new ResilienceGuard(circuitBreakerRegistry, bulkheadRegistry);
+    private final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CLIENT);
+    private final Bulkhead bulkhead = bulkheadRegistry.bulkhead(CLIENT);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private CompletableFuture<ResponseEntity<Object>> execute(CompletableFuture<ResponseEntity<Object>> response) {
+        return resilienceGuard.execute(CLIENT, () -> {
+            calls.incrementAndGet();
+            return response;
+        });
+    }
+
+    private static CompletableFuture<ResponseEntity<Object>> status(HttpStatus status) {
+        return CompletableFuture.completedFuture(ResponseEntity.status(status).build());
+    }
+
+    private int availableCalls() {
+        return bulkhead.getMetrics().getAvailableConcurrentCalls();
+    }
+
+    private static void assertServiceUnavailable(CompletableFuture<ResponseEntity<Object>> response) {
+        assertInstanceOf(ServiceUnavailableException.class,
+                assertThrows(CompletionException.class, response::join).getCause());
+    }
+
+    @Test
+    public void shouldRejectCallIfBulkheadIsFull() {
+        CompletableFuture<ResponseEntity<Object>> pending = new CompletableFuture<>();
+        execute(pending);
+        execute(pending);
+
+        assertServiceUnavailable(execute(status(HttpStatus.OK)));
+        assertEquals(2, calls.get());
+
+        pending.complete(ResponseEntity.ok().build());
+
+        assertEquals(MAX_CONCURRENT_CALLS, availableCalls());
+        assertEquals(HttpStatus.OK, execute(status(HttpStatus.OK)).join().getStatusCode());
+    }
+
+    @Test
+    public void shouldRejectCallIfCircuitBreakerIsOpen() {
+        circuitBreaker.transitionToOpenState();
+
+        assertServiceUnavailable(execute(status(HttpStatus.OK)));
+        assertEquals(0, calls.get());
+        assertEquals(MAX_CONCURRENT_CALLS, availableCalls());
+    }
+
+    @Test
+    public void shouldOpenCircuitBreakerOnServerErrors() {
+        execute(status(HttpStatus.BAD_GATEWAY));
+        execute(CompletableFuture.failedFuture(new IllegalStateException("обрыв соединения")));
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertServiceUnavailable(execute(status(HttpStatus.OK)));
+    }
+
+    @Test
+    public void shouldNotCountClientErrorsAsFailures() {
+        execute(status(HttpStatus.NOT_FOUND));
+        execute(status(HttpStatus.BAD_REQUEST));
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void shouldReleaseBulkheadPermitOnEveryOutcome() {
+        execute(status(HttpStatus.OK));
+        execute(status(HttpStatus.SERVICE_UNAVAILABLE));
+        execute(CompletableFuture.failedFuture(new IllegalStateException("обрыв соединения")));
+        resilienceGuard.execute(CLIENT, () -> {
+            throw new IllegalArgumentException("недопустимый адрес");
+        });
+
+        assertEquals(MAX_CONCURRENT_CALLS, availableCalls());
+    }
+
+    @Test
+    public void shouldReleaseHalfOpenPermitIfBulkheadIsFull() {
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+        CompletableFuture<ResponseEntity<Object>> pending = new CompletableFuture<>();
+        for (int i = 0; i < MAX_CONCURRENT_CALLS; i++) {
+            bulkhead.acquirePermission();
+        }
+
+        assertServiceUnavailable(execute(pending));
+
+        bulkhead.onComplete();
+        execute(pending);
+        assertEquals(1, calls.get());
+        pending.complete(ResponseEntity.ok().build());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+}
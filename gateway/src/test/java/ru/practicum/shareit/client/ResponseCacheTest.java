@@ -0,0 +1,108 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ResponseCacheTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private ResponseCache responseCache;
+
+    @BeforeEach
+    public void beforeEach() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        properties.setTtl(Map.of(
+                "items-by-id", Duration.ofSeconds(5),
+                "users-by-id", Duration.ofSeconds(60)));
+        responseCache = new ResponseCache(properties, new SimpleMeterRegistry(), nanos::get);
+    }
+
+    private Object get(String client, String route, String path) {
+        return responseCache.get(client, route, path, 1L, null, () -> CompletableFuture.completedFuture(
+                ResponseEntity.ok(client + path + calls.incrementAndGet()))).join().getBody();
+    }
+
+    @Test
+    public void shouldReturnCachedResponseWithinTtl() {
+        Object first = get("/items", "items-by-id", "/1");
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        assertEquals(first, get("/items", "items-by-id", "/1"));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void shouldExpireResponseAfterTtl() {
+        Object first = get("/items", "items-by-id", "/1");
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertEquals("/items/12", get("/items", "items-by-id", "/1"));
+        assertEquals("/items/11", first);
+    }
+
+    @Test
+    public void shouldExpireEachRouteWithItsOwnTtl() {
+        get("/items", "items-by-id", "/1");
+        get("/users", "users-by-id", "/1");
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        get("/items", "items-by-id", "/1");
+        get("/users", "users-by-id", "/1");
+
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void shouldNotCacheRouteWithoutTtl() {
+        get("/bookings", "bookings-by-id", "/1");
+        get("/bookings", "bookings-by-id", "/1");
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldEvictEveryClientOnWrite() {
+        get("/items", "items-by-id", "/1");
+        get("/users", "users-by-id", "/1");
+
+        responseCache.evictAll();
+        get("/items", "items-by-id", "/1");
+        get("/users", "users-by-id", "/1");
+
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void shouldNotCacheResponseStartedBeforeEviction() {
+        CompletableFuture<ResponseEntity<Object>> inFlight = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> response = responseCache.get("/items", "items-by-id", "/1",
+                1L, null, () -> inFlight);
+
+        responseCache.evictAll();
+        inFlight.complete(ResponseEntity.ok("stale"));
+
+        assertEquals("stale", response.join().getBody());
+        assertEquals("/items/11", get("/items", "items-by-id", "/1"));
+    }
+
+    @Test
+    public void shouldNotCacheErrorResponse() {
+        responseCache.get("/items", "items-by-id", "/1", 1L, null,
+                () -> CompletableFuture.completedFuture(ResponseEntity.notFound().build())).join();
+
+        get("/items", "items-by-id", "/1");
+
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RetryBudgetTest {
+    private static RetryBudget budget(double ratio, int maxTokens) {
+        RetryProperties.Budget properties = new RetryProperties.Budget();
+        properties.setRatio(ratio);
+        properties.setMaxTokens(maxTokens);
+        return new RetryBudget(properties);
+    }
+
+    private static void drain(RetryBudget budget, int tokens) {
+        for (int i = 0; i < tokens; i++) {
+            assertTrue(budget.tryWithdraw());
+        }
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    public void shouldStartFull() {
+        drain(budget(0.1, 3), 3);
+    }
+
+    @Test
+    public void shouldRejectWithdrawWhenEmpty() {
+        RetryBudget budget = budget(0.1, 1);
+        drain(budget, 1);
+
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    public void shouldRefillOneTokenPerRatioOfDeposits() {
+        RetryBudget budget = budget(0.1, 3);
+        drain(budget, 3);
+
+        for (int i = 0; i < 9; i++) {
+            budget.deposit();
+        }
+        assertFalse(budget.tryWithdraw());
+
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    public void shouldNotDepositOverCap() {
+        RetryBudget budget = budget(0.5, 2);
+
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+
+        drain(budget, 2);
+    }
+
+    @Test
+    public void shouldNotRefundOverCap() {
+        RetryBudget budget = budget(0.1, 2);
+        budget.refund();
+
+        drain(budget, 2);
+    }
+
+    @Test
+    public void shouldRefundWithdrawnToken() {
+        RetryBudget budget = budget(0.1, 1);
+        drain(budget, 1);
+
+        budget.refund();
+
+        drain(budget, 1);
+    }
+}
@@ -0,0 +1,314 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import ru.practicum.shareit.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RetryExecutorTest {
+    private final ExecutorService virtualThreads = Executors.newCachedThreadPool(
+            new CustomizableThreadFactory("virtual-"));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RetryProperties properties = new RetryProperties();
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+    private final List<RetryExecutor> retryExecutors = new ArrayList<>();
+
+    public RetryExecutorTest() {
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        retryExecutors.forEach(RetryExecutor::shutdown);
+        virtualThreads.shutdownNow();
+    }
+
+    private RetryExecutor retryExecutor(Map<String, Object> beans) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(beans);
+        RetryExecutor retryExecutor = new RetryExecutor(properties, meterRegistry,
+                beanFactory.getBeanProvider(ExecutorService.class), beanFactory.getBeanProvider(GatewayTransport.class));
+        retryExecutors.add(retryExecutor);
+        return retryExecutor;
+    }
+
+    private RetryExecutor retryExecutor() {
+        return retryExecutor(Map.of());
+    }
+
+    private Supplier<CompletableFuture<ResponseEntity<Object>>> responses(
+            List<CompletableFuture<ResponseEntity<Object>>> responses) {
+        return () -> {
+            threads.add(Thread.currentThread().getName());
+            return responses.get(Math.min(threads.size(), responses.size()) - 1);
+        };
+    }
+
+    private static Supplier<CompletableFuture<ResponseEntity<Object>>> unavailableThen(
+            Supplier<CompletableFuture<ResponseEntity<Object>>> retry) {
+        AtomicInteger calls = new AtomicInteger();
+        return () -> calls.getAndIncrement() == 0 ? status(HttpStatus.SERVICE_UNAVAILABLE) : retry.get();
+    }
+
+    private static CompletableFuture<ResponseEntity<Object>> status(HttpStatus status) {
+        return CompletableFuture.completedFuture(ResponseEntity.status(status).build());
+    }
+
+    private ResponseEntity<Object> execute(RetryExecutor retryExecutor,
+                                           Supplier<CompletableFuture<ResponseEntity<Object>>> call)
+            throws Exception {
+        return retryExecutor.execute("items", call).get(5, TimeUnit.SECONDS);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HttpStatus.class, names = {"BAD_GATEWAY", "SERVICE_UNAVAILABLE", "GATEWAY_TIMEOUT"})
+    public void shouldRetryUnavailableResponse(HttpStatus status) throws Exception {
+        ResponseEntity<Object> response = execute(retryExecutor(),
+                responses(List.of(status(status), status(HttpStatus.OK))));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, threads.size());
+        assertEquals(1, counter("gateway.requests.retried"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HttpStatus.class, names = {"OK", "NOT_FOUND", "INTERNAL_SERVER_ERROR"})
+    public void shouldNotRetryOtherResponse(HttpStatus status) throws Exception {
+        assertEquals(status, execute(retryExecutor(), responses(List.of(status(status)))).getStatusCode());
+        assertEquals(1, threads.size());
+    }
+
+    @Test
+    public void shouldRetryTransportError() throws Exception {
+        ResponseEntity<Object> response = execute(retryExecutor(), responses(List.of(
+                CompletableFuture.failedFuture(new IllegalStateException("обрыв соединения")),
+                status(HttpStatus.OK))));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, threads.size());
+    }
+
+    @Test
+    public void shouldNotRetryServiceUnavailableException() {
+        ServiceUnavailableException rejection = new ServiceUnavailableException("Сервис items временно недоступен");
+        RetryExecutor retryExecutor = retryExecutor();
+
+        assertInstanceOf(ServiceUnavailableException.class, assertThrows(CompletionException.class,
+                () -> retryExecutor.execute("items", responses(List.of(CompletableFuture.failedFuture(rejection))))
+                        .join()).getCause());
+        assertEquals(1, threads.size());
+    }
+
+    @Test
+    public void shouldStopAfterMaxAttempts() throws Exception {
+        properties.setMaxAttempts(4);
+
+        ResponseEntity<Object> response = execute(retryExecutor(),
+                responses(List.of(status(HttpStatus.SERVICE_UNAVAILABLE))));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(4, threads.size());
+        assertEquals(3, counter("gateway.requests.retried"));
+    }
+
+    @Test
+    public void shouldStopRetryingWhenBudgetIsEmpty() throws Exception {
+        properties.getBudget().setMaxTokens(1);
+        properties.getBudget().setRatio(0.01);
+        RetryExecutor retryExecutor = retryExecutor();
+
+        execute(retryExecutor, responses(List.of(status(HttpStatus.SERVICE_UNAVAILABLE))));
+        threads.clear();
+        execute(retryExecutor, responses(List.of(status(HttpStatus.SERVICE_UNAVAILABLE))));
+
+        assertEquals(1, threads.size());
+        assertEquals(2, counter("gateway.retry.budget.exhausted"));
+    }
+
+    @Test
+    public void shouldRunFirstAttemptOnCallerThread() throws Exception {
+        execute(retryExecutor(), responses(List.of(status(HttpStatus.OK))));
+
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    public void shouldRunHedgedPrimaryOnCallerThread() throws Exception {
+        properties.getHedging().setEnabled(true);
+
+        execute(retryExecutor(), responses(List.of(status(HttpStatus.OK))));
+
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    public void shouldNotLaunchHedgeAfterPrimaryFinished() throws Exception {
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setDelay(Duration.ofMillis(200));
+
+        execute(retryExecutor(), responses(List.of(status(HttpStatus.OK))));
+        TimeUnit.MILLISECONDS.sleep(400);
+
+        assertEquals(1, threads.size());
+        assertEquals(0, counter("gateway.requests.hedged"));
+    }
+
+    @Test
+    public void shouldReturnHedgeResponseIfPrimaryIsSlow() throws Exception {
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setDelay(Duration.ofMillis(20));
+        CompletableFuture<ResponseEntity<Object>> primary = new CompletableFuture<>();
+
+        ResponseEntity<Object> response = execute(retryExecutor(),
+                responses(List.of(primary, CompletableFuture.completedFuture(ResponseEntity.ok("hedge")))));
+
+        assertEquals("hedge", response.getBody());
+        assertEquals(2, threads.size());
+        assertEquals(1, counter("gateway.requests.hedged"));
+        assertTrue(threads.get(1).startsWith("gateway-retry-"));
+    }
+
+    @Test
+    public void shouldReturnHedgeResponseIfBlockingPrimaryIsSlow() throws Exception {
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setDelay(Duration.ofMillis(20));
+        GatewayTransport transport = mock(GatewayTransport.class);
+        when(transport.isBlocking()).thenReturn(true);
+        RetryExecutor retryExecutor = retryExecutor(Map.of("transport", transport));
+        Supplier<CompletableFuture<ResponseEntity<Object>>> call = () -> {
+            threads.add(Thread.currentThread().getName());
+            if (threads.size() > 1) {
+                return CompletableFuture.completedFuture(ResponseEntity.ok("hedge"));
+            }
+            try {
+                TimeUnit.SECONDS.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CompletableFuture.completedFuture(ResponseEntity.ok("primary"));
+        };
+
+        long start = System.nanoTime();
+        CompletableFuture<ResponseEntity<Object>> response = retryExecutor.execute("items", call);
+
+        assertEquals("hedge", response.get(1, TimeUnit.SECONDS).getBody());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertTrue(threads.get(0).startsWith("gateway-retry-"));
+        assertEquals(1, counter("gateway.requests.hedged"));
+    }
+
+    private List<CompletableFuture<ResponseEntity<Object>>> saturate(RetryExecutor retryExecutor,
+                                                                     CountDownLatch release) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<Object>> running = retryExecutor.execute("items", unavailableThen(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return status(HttpStatus.OK);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ResponseEntity<Object>> queued = retryExecutor.execute("items",
+                unavailableThen(() -> status(HttpStatus.OK)));
+        TimeUnit.MILLISECONDS.sleep(100);
+        return List.of(running, queued);
+    }
+
+    @Test
+    public void shouldSkipRetryIfQueueIsFull() throws Exception {
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        RetryExecutor retryExecutor = retryExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<ResponseEntity<Object>>> saturated = saturate(retryExecutor, release);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+                execute(retryExecutor, unavailableThen(() -> status(HttpStatus.OK))).getStatusCode());
+        assertEquals(1, counter("gateway.retry.rejected"));
+
+        release.countDown();
+        for (CompletableFuture<ResponseEntity<Object>> response : saturated) {
+            assertEquals(HttpStatus.OK, response.get(5, TimeUnit.SECONDS).getStatusCode());
+        }
+    }
+
+    @Test
+    public void shouldSkipHedgeIfQueueIsFull() throws Exception {
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        RetryExecutor retryExecutor = retryExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<ResponseEntity<Object>>> saturated = saturate(retryExecutor, release);
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setDelay(Duration.ofMillis(20));
+        CompletableFuture<ResponseEntity<Object>> primary = new CompletableFuture<>();
+
+        CompletableFuture<ResponseEntity<Object>> response = retryExecutor.execute("items",
+                responses(List.of(primary, status(HttpStatus.OK))));
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        assertEquals(1, threads.size());
+        assertEquals(1, counter("gateway.retry.rejected"));
+        assertEquals(0, counter("gateway.requests.hedged"));
+        primary.complete(ResponseEntity.ok("primary"));
+        assertEquals("primary", response.get(5, TimeUnit.SECONDS).getBody());
+        release.countDown();
+        for (CompletableFuture<ResponseEntity<Object>> saturatedResponse : saturated) {
+            assertEquals(HttpStatus.OK, saturatedResponse.get(5, TimeUnit.SECONDS).getStatusCode());
+        }
+    }
+
+    @Test
+    public void shouldRetryOnVirtualThreadExecutorIfEnabled() throws Exception {
+        RetryExecutor retryExecutor = retryExecutor(Map.of("virtualThreadExecutor", virtualThreads));
+
+        assertEquals(HttpStatus.OK, execute(retryExecutor,
+                responses(List.of(status(HttpStatus.SERVICE_UNAVAILABLE), status(HttpStatus.OK)))).getStatusCode());
+        assertTrue(threads.get(1).startsWith("virtual-"));
+
+        retryExecutor.shutdown();
+        assertFalse(virtualThreads.isShutdown());
+    }
+
+    @Test
+    public void shouldRetryOnOwnPoolIfVirtualThreadsDisabled() throws Exception {
+        assertEquals(HttpStatus.OK, execute(retryExecutor(),
+                responses(List.of(status(HttpStatus.SERVICE_UNAVAILABLE), status(HttpStatus.OK)))).getStatusCode());
+        assertTrue(threads.get(1).startsWith("gateway-retry-"));
+    }
+}
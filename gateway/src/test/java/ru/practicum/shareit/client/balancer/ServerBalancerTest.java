@@ -0,0 +1,193 @@
+package ru.practicum.shareit.client.balancer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class ServerBalancerTest {
+    private static final String FIRST = "http://server-1";
+    private static final String SECOND = "http://server-2";
+    private static final String THIRD = "http://server-3";
+    private static final int ROUNDS = 200;
+
+    private final BalancerProperties properties = new BalancerProperties();
+    private MockRestServiceServer healthServer;
+    private ServerBalancer balancer;
+
+    private ServerBalancer balancer(String... urls) {
+        balancer = new ServerBalancer(List.of(urls), properties,
+                new RestTemplateBuilder(restTemplate -> healthServer = MockRestServiceServer.bindTo(restTemplate)
+                        .ignoreExpectOrder(true)
+                        .build()),
+                new SimpleMeterRegistry());
+        return balancer;
+    }
+
+    @AfterEach
+    public void afterEach() {
+        if (balancer != null) {
+            balancer.stopHealthChecks();
+        }
+    }
+
+    private Map<String, ServerNode> nodes() {
+        return balancer.getNodes().stream()
+                .collect(Collectors.toMap(ServerNode::getUrl, Function.identity()));
+    }
+
+    private static void load(ServerNode node, int requests) {
+        for (int i = 0; i < requests; i++) {
+            node.acquire();
+        }
+    }
+
+    private List<String> acquireAndRelease(int rounds) {
+        return IntStream.range(0, rounds)
+                .mapToObj(i -> {
+                    ServerNode node = balancer.acquire();
+                    balancer.release(node, ResponseEntity.ok().build(), null);
+                    return node.getUrl();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private void fail(String url, int times) {
+        ServerNode node = nodes().get(url);
+        for (int i = 0; i < times; i++) {
+            node.acquire();
+            balancer.release(node, ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build(), null);
+        }
+    }
+
+    @Test
+    public void shouldNeverPickMostLoadedNodeWithPowerOfTwoChoices() {
+        balancer(FIRST, SECOND, THIRD);
+        Map<String, ServerNode> nodes = nodes();
+        load(nodes.get(FIRST), 5);
+        load(nodes.get(THIRD), 1);
+
+        Map<String, Long> picks = acquireAndRelease(ROUNDS).stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertFalse(picks.containsKey(FIRST));
+        assertTrue(picks.get(SECOND) > picks.getOrDefault(THIRD, 0L));
+    }
+
+    @Test
+    public void shouldPickLessLoadedOfTwoNodesWithPowerOfTwoChoices() {
+        balancer(FIRST, SECOND);
+        load(nodes().get(FIRST), 1);
+
+        assertTrue(acquireAndRelease(ROUNDS).stream().allMatch(SECOND::equals));
+    }
+
+    @Test
+    public void shouldPickLeastOutstandingNode() {
+        properties.setStrategy(BalancerProperties.Strategy.LEAST_OUTSTANDING);
+        balancer(FIRST, SECOND, THIRD);
+        Map<String, ServerNode> nodes = nodes();
+        load(nodes.get(FIRST), 2);
+        load(nodes.get(SECOND), 1);
+        load(nodes.get(THIRD), 3);
+
+        assertTrue(acquireAndRelease(ROUNDS).stream().allMatch(SECOND::equals));
+    }
+
+    @Test
+    public void shouldTrackOutstandingRequests() {
+        balancer(FIRST);
+        ServerNode node = balancer.acquire();
+        balancer.acquire();
+
+        assertEquals(2, node.getOutstanding());
+
+        balancer.release(node, ResponseEntity.ok().build(), null);
+        balancer.release(node, null, new IOException("обрыв соединения"));
+
+        assertEquals(0, node.getOutstanding());
+    }
+
+    @Test
+    public void shouldEjectNodeAfterFailureThreshold() {
+        balancer(FIRST, SECOND);
+        fail(FIRST, properties.getFailureThreshold() - 1);
+
+        assertTrue(nodes().get(FIRST).isHealthy());
+
+        fail(FIRST, 1);
+
+        assertFalse(nodes().get(FIRST).isHealthy());
+        assertTrue(acquireAndRelease(ROUNDS).stream().allMatch(SECOND::equals));
+    }
+
+    @Test
+    public void shouldResetFailuresAfterSuccess() {
+        balancer(FIRST);
+        fail(FIRST, properties.getFailureThreshold() - 1);
+        acquireAndRelease(1);
+        fail(FIRST, properties.getFailureThreshold() - 1);
+
+        assertTrue(nodes().get(FIRST).isHealthy());
+    }
+
+    @Test
+    public void shouldUseAllNodesIfNoneIsHealthy() {
+        balancer(FIRST, SECOND);
+        fail(FIRST, properties.getFailureThreshold());
+        fail(SECOND, properties.getFailureThreshold());
+
+        assertEquals(2, acquireAndRelease(ROUNDS).stream().distinct().count());
+    }
+
+    @Test
+    public void shouldReadmitNodeAfterSuccessfulHealthCheck() {
+        balancer(FIRST, SECOND);
+        fail(FIRST, properties.getFailureThreshold());
+        healthServer.expect(ExpectedCount.once(), requestTo(FIRST + properties.getHealthCheckPath()))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess());
+        healthServer.expect(ExpectedCount.once(), requestTo(SECOND + properties.getHealthCheckPath()))
+                .andRespond(withSuccess());
+
+        balancer.checkHealth();
+
+        healthServer.verify();
+        assertTrue(nodes().get(FIRST).isHealthy());
+        assertTrue(acquireAndRelease(ROUNDS).contains(FIRST));
+    }
+
+    @Test
+    public void shouldEjectNodeFailingHealthCheck() {
+        balancer(FIRST, SECOND);
+        healthServer.expect(ExpectedCount.once(), requestTo(FIRST + properties.getHealthCheckPath()))
+                .andRespond(withException(new IOException("нет соединения")));
+        healthServer.expect(ExpectedCount.once(), requestTo(SECOND + properties.getHealthCheckPath()))
+                .andRespond(withSuccess());
+
+        balancer.checkHealth();
+
+        assertFalse(nodes().get(FIRST).isHealthy());
+        assertTrue(acquireAndRelease(ROUNDS).stream().allMatch(SECOND::equals));
+    }
+}
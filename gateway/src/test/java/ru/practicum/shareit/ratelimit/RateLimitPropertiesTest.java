@@ -0,0 +1,50 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitPropertiesTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(Config.class);
+
+    @Configuration
+    @EnableConfigurationProperties(RateLimitProperties.class)
+    static class Config {
+    }
+
+    @Test
+    public void shouldAcceptPositiveLimits() {
+        contextRunner.withPropertyValues(
+                        "shareit-gateway.rate-limit.defaults.capacity=1",
+                        "shareit-gateway.rate-limit.defaults.tokens-per-second=0.5")
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @Test
+    public void shouldRejectZeroDefaultCapacity() {
+        contextRunner.withPropertyValues("shareit-gateway.rate-limit.defaults.capacity=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    public void shouldRejectNegativeDefaultTokensPerSecond() {
+        contextRunner.withPropertyValues("shareit-gateway.rate-limit.defaults.tokens-per-second=-1")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    public void shouldRejectZeroRouteTokensPerSecond() {
+        contextRunner.withPropertyValues("shareit-gateway.rate-limit.routes[/bookings].tokens-per-second=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    public void shouldRejectZeroPerUserCapacity() {
+        contextRunner.withPropertyValues("shareit-gateway.rate-limit.per-user.capacity=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+}
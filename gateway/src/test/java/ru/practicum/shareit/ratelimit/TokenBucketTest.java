@@ -0,0 +1,95 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TokenBucketTest {
+    private static final long INTERVAL = Duration.ofMillis(100).toNanos();
+
+    private static TokenBucket bucket(int capacity, double tokensPerSecond) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setTokensPerSecond(tokensPerSecond);
+        return new TokenBucket(limit);
+    }
+
+    private static void consumeBurst(TokenBucket bucket, long now, int capacity) {
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(0, bucket.tryConsume(now));
+        }
+    }
+
+    @Test
+    public void shouldAllowBurstUpToCapacity() {
+        TokenBucket bucket = bucket(3, 10);
+
+        consumeBurst(bucket, 0, 3);
+
+        assertEquals(INTERVAL, bucket.tryConsume(0));
+    }
+
+    @Test
+    public void shouldReturnTimeUntilNextToken() {
+        TokenBucket bucket = bucket(3, 10);
+        consumeBurst(bucket, 0, 3);
+
+        assertEquals(INTERVAL - 30, bucket.tryConsume(30));
+        assertEquals(1, bucket.tryConsume(INTERVAL - 1));
+    }
+
+    @Test
+    public void shouldNotConsumeTokenOnRejection() {
+        TokenBucket bucket = bucket(1, 10);
+        bucket.tryConsume(0);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(INTERVAL, bucket.tryConsume(0));
+        }
+        assertEquals(0, bucket.tryConsume(INTERVAL));
+    }
+
+    @Test
+    public void shouldRefillOneTokenPerInterval() {
+        TokenBucket bucket = bucket(3, 10);
+        consumeBurst(bucket, 0, 3);
+
+        assertEquals(0, bucket.tryConsume(INTERVAL));
+        assertEquals(INTERVAL, bucket.tryConsume(INTERVAL));
+        assertEquals(0, bucket.tryConsume(2 * INTERVAL));
+    }
+
+    @Test
+    public void shouldNotAccumulateMoreThanCapacityWhileIdle() {
+        TokenBucket bucket = bucket(3, 10);
+        consumeBurst(bucket, 0, 3);
+        long now = Duration.ofMinutes(1).toNanos();
+
+        consumeBurst(bucket, now, 3);
+
+        assertEquals(INTERVAL, bucket.tryConsume(now));
+    }
+
+    @Test
+    public void shouldReturnRefundedToken() {
+        TokenBucket bucket = bucket(2, 10);
+        consumeBurst(bucket, 0, 2);
+
+        bucket.refund();
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(INTERVAL, bucket.tryConsume(0));
+    }
+
+    @Test
+    public void shouldWorkWithNegativeClock() {
+        TokenBucket bucket = bucket(2, 10);
+        long now = -Duration.ofDays(1).toNanos();
+
+        consumeBurst(bucket, now, 2);
+
+        assertEquals(INTERVAL, bucket.tryConsume(now));
+    }
+}
@@ -0,0 +1,67 @@
+-- Сравнение поиска вещей: прежний UPPER(...) LIKE, ILIKE с индексами pg_trgm и полнотекстовый поиск (tsvector + GIN).
+-- Запуск на пустой базе после старта сервера (схема уже создана):
+--   psql -h localhost -p 6541 -U shareit -d shareit -f server/bench/item_search.sql
+
+\timing on
+
+INSERT INTO users (name, email)
+SELECT 'bench user ' || n, 'bench' || n || '@ya.ru'
+FROM generate_series(1, 1000) n;
+
+INSERT INTO items (name, description, available, owner_id)
+SELECT (ARRAY ['Дрель', 'Отвёртка', 'Молоток', 'Пила', 'Лестница', 'Drill', 'Hammer', 'Saw'])[1 + n % 8] || ' ' || n,
+       'Описание вещи ' || md5(n::text) || ' ' ||
+       (ARRAY ['аккумуляторная', 'ручная', 'электрическая', 'складная', 'cordless', 'manual'])[1 + n % 6],
+       n % 10 <> 0,
+       (SELECT min(id) FROM users) + n % 1000
+FROM generate_series(1, 1000000) n;
+
+ANALYZE items;
+
+-- Текущий поиск: UPPER(...) LIKE '%text%' (последовательное сканирование)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.*
+FROM items i
+WHERE (UPPER(i.name) LIKE UPPER('%аккумулятор%') OR UPPER(i.description) LIKE UPPER('%аккумулятор%'))
+  AND i.available = true
+LIMIT 10;
+
+-- Поиск по подстроке через ILIKE: индексы pg_trgm idx_items_name_trgm и idx_items_description_trgm
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.*
+FROM items i
+WHERE i.available
+  AND (i.name ILIKE '%аккумулятор%' OR i.description ILIKE '%аккумулятор%')
+LIMIT 10;
+
+-- Полнотекстовый поиск: индекс idx_items_search_vector и ранжирование ts_rank
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.*
+FROM items i, to_tsquery('russian', 'аккумулятор:*') q
+WHERE i.available AND i.search_vector @@ q
+ORDER BY ts_rank(i.search_vector, q) DESC, i.id
+LIMIT 10;
+
+-- Редкий термин: здесь разница между сканированием и индексом максимальна
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.*
+FROM items i
+WHERE (UPPER(i.name) LIKE UPPER('%Дрель 424242%') OR UPPER(i.description) LIKE UPPER('%Дрель 424242%'))
+  AND i.available = true
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.*
+FROM items i
+WHERE i.available
+  AND (i.name ILIKE '%Дрель 424242%' OR i.description ILIKE '%Дрель 424242%')
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.*
+FROM items i, to_tsquery('russian', 'дрель:* & 424242:*') q
+WHERE i.available AND i.search_vector @@ q
+ORDER BY ts_rank(i.search_vector, q) DESC, i.id
+LIMIT 10;
+
+DELETE FROM users WHERE email LIKE 'bench%@ya.ru';
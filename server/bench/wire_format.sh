@@ -0,0 +1,19 @@
+#!/usr/bin/env bash
+# Сравнение скорости сериализации и десериализации JSON и Smile на тех же ObjectMapper, что использует сервер.
+# Замеры вынесены из WireFormatTest, чтобы не замедлять и не делать нестабильной обычную сборку.
+# Нужны JDK и Maven. Запуск из корня репозитория:
+#   server/bench/wire_format.sh
+# Параметры: ITERATIONS (по умолчанию 20000) — число повторений на прогрев и на замер.
+
+set -euo pipefail
+
+ITERATIONS=${ITERATIONS:-20000}
+CLASSPATH_FILE=$(mktemp)
+trap 'rm -f "$CLASSPATH_FILE"' EXIT
+
+mvn -B -q -f server/pom.xml test-compile dependency:build-classpath \
+    -Dmdep.includeScope=test -Dmdep.outputFile="$CLASSPATH_FILE"
+
+java -Diterations="$ITERATIONS" \
+    -cp "server/target/test-classes:server/target/classes:$(cat "$CLASSPATH_FILE")" \
+    ru.practicum.shareit.WireFormatBench --logging.level.root=WARN --logging.level.org.springframework=WARN
@@ -2,8 +2,10 @@ package ru.practicum.shareit.booking.controller;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.enums.State;
@@ -11,6 +13,7 @@ import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.markers.Constants;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
 import java.util.List;
 
@@ -33,27 +36,35 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingResponseDto> getAllByBookerId(
+    public ResponseEntity<List<BookingResponseDto>> getAllByBookerId(
             @RequestHeader(Constants.headerUserId) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) Integer size) {
+            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size,
+            @RequestParam(required = false) String cursor) {
         State stateEnum = State.stringToState(state).orElseThrow(
                 () -> new IllegalArgumentException("Unknown state: " + state));
         log.info("Получен запрос всех вещей бронирующего GET /bookings " + userId);
-        return bookingService.getAllByBookerId(userId, stateEnum, PageRequest.of(from / size, size));
+        if (cursor == null) {
+            return ResponseEntity.ok(bookingService.getAllByBookerId(userId, stateEnum, PageRequest.of(from / size, size)));
+        }
+        return withNextCursor(bookingService.getAllByBookerId(userId, stateEnum, toCursor(cursor), size), size);
     }
 
     @GetMapping("/owner")
-    public List<BookingResponseDto> getAllByOwnerId(
+    public ResponseEntity<List<BookingResponseDto>> getAllByOwnerId(
             @RequestHeader(Constants.headerUserId) Long userId,
             @RequestParam(defaultValue = "ALL") String state,
             @RequestParam(defaultValue = Constants.PAGE_DEFAULT_FROM) @PositiveOrZero Integer from,
-            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) Integer size) {
+            @RequestParam(defaultValue = Constants.PAGE_DEFAULT_SIZE) @Positive Integer size,
+            @RequestParam(required = false) String cursor) {
         State stateEnum = State.stringToState(state).orElseThrow(
                 () -> new IllegalArgumentException("Unknown state: " + state));
         log.info("Получен запрос всех вещей владельца GET /bookings/owner " + userId);
-        return bookingService.getAllByOwnerId(userId, stateEnum, PageRequest.of(from / size, size));
+        if (cursor == null) {
+            return ResponseEntity.ok(bookingService.getAllByOwnerId(userId, stateEnum, PageRequest.of(from / size, size)));
+        }
+        return withNextCursor(bookingService.getAllByOwnerId(userId, stateEnum, toCursor(cursor), size), size);
     }
 
     @PostMapping
@@ -70,4 +81,18 @@ public class BookingController {
         log.info("Получен запрос PATCH /bookings/id " + " ! статус брони вещи с id" + id + ": забронировано=" + approved + " юзер с id" + userId);
         return bookingService.update(userId, id, approved);
     }
+
+    private BookingCursor toCursor(String cursor) {
+        return cursor.isBlank() ? null : BookingCursor.decode(cursor);
+    }
+
+    private ResponseEntity<List<BookingResponseDto>> withNextCursor(List<BookingResponseDto> bookings, int size) {
+        if (bookings.isEmpty() || bookings.size() < size) {
+            return ResponseEntity.ok(bookings);
+        }
+        BookingResponseDto last = bookings.get(bookings.size() - 1);
+        return ResponseEntity.ok()
+                .header(Constants.headerNextCursor, BookingCursor.of(last.getStart(), last.getId()).encode())
+                .body(bookings);
+    }
 }
\ No newline at end of file
@@ -1,38 +1,18 @@
 package ru.practicum.shareit.booking.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.booking.enums.Status;
 import ru.practicum.shareit.booking.model.Booking;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-    Page<Booking> findByBookerIdOrderByStartDesc(Long booker, Pageable pageable);
-
-    Page<Booking> findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime start,
-                                                                          LocalDateTime end, Pageable pageable);
-
-    Page<Booking> findByBookerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(Long userId, LocalDateTime start,
-                                                                            Status status, Pageable pageable);
-
-    Page<Booking> findByBookerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime start, Pageable pageable);
-
-    Page<Booking> findByBookerIdAndStatusEqualsOrderByStartDesc(Long userId, Status status, Pageable pageable);
-
-    Page<Booking> findByItemOwnerIdOrderByStartDesc(Long booker, Pageable pageable);
-
-    Page<Booking> findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime start,
-                                                                             LocalDateTime end, Pageable pageable);
-
-    Page<Booking> findByItemOwnerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(Long userId, LocalDateTime start,
-                                                                               Status status, Pageable pageable);
-
-    Page<Booking> findByItemOwnerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime start, Pageable pageable);
-
-    Page<Booking> findByItemOwnerIdAndStatusEqualsOrderByStartDesc(Long userId, Status status, Pageable pageable);
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingRepositoryCustom {
+    @Override
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findById(Long id);
 
     List<Booking> findByItemIdAndStartBeforeAndStatusEqualsOrderByStartDesc(Long userId, LocalDateTime start, Status status);
 
@@ -42,9 +22,8 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     List<Booking> findByItemIdAndBookerIdAndEndIsBeforeAndStatusEquals(Long id, Long userId, LocalDateTime end, Status status);
 
-    List<Booking> findByItemIdIn(List<Long> itemIds);
-
-    List<Booking> findByItemId(Long id);
+    boolean existsByItemIdAndStatusAndStartBeforeAndEndAfter(Long itemId, Status status, LocalDateTime end,
+                                                             LocalDateTime start);
 
     List<Booking> findByItemIdAndStartAfterAndEndBeforeAndStatusEqualsOrderByStartAsc(Long id, LocalDateTime start, LocalDateTime end, Status status);
 
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.enums.Role;
+import ru.practicum.shareit.booking.enums.State;
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingRepositoryCustom {
+    List<Booking> findByUserAndState(Role role, Long userId, State state, LocalDateTime dateTime, Pageable pageable);
+
+    List<Booking> findByUserAndStateAfter(Role role, Long userId, State state, LocalDateTime dateTime,
+                                          BookingCursor cursor, int size);
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.booking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.enums.Role;
+import ru.practicum.shareit.booking.enums.State;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Booking> findByUserAndState(Role role, Long userId, State state, LocalDateTime dateTime,
+                                            Pageable pageable) {
+        return entityManager.createQuery(buildQuery(role, userId, state, dateTime, null))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public List<Booking> findByUserAndStateAfter(Role role, Long userId, State state, LocalDateTime dateTime,
+                                                 BookingCursor cursor, int size) {
+        return entityManager.createQuery(buildQuery(role, userId, state, dateTime, cursor))
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    private CriteriaQuery<Booking> buildQuery(Role role, Long userId, State state, LocalDateTime dateTime,
+                                              BookingCursor cursor) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Booking> query = cb.createQuery(Booking.class);
+        Root<Booking> booking = query.from(Booking.class);
+        Join<Booking, Item> item = (Join<Booking, Item>) booking.<Booking, Item>fetch("item");
+        booking.fetch("booker");
+        Path<LocalDateTime> start = booking.get("start");
+        Path<LocalDateTime> end = booking.get("end");
+        Path<Status> status = booking.get("status");
+        Path<Long> id = booking.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        switch (role) {
+            case BOOKER:
+                predicates.add(cb.equal(booking.get("booker").get("id"), userId));
+                break;
+            case OWNER:
+                predicates.add(cb.equal(item.get("owner").get("id"), userId));
+        }
+        switch (state) {
+            case CURRENT:
+                predicates.add(cb.lessThan(start, dateTime));
+                predicates.add(cb.greaterThan(end, dateTime));
+                break;
+            case PAST:
+                predicates.add(cb.lessThan(end, dateTime));
+                predicates.add(cb.equal(status, Status.APPROVED));
+                break;
+            case FUTURE:
+                predicates.add(cb.greaterThan(start, dateTime));
+                break;
+            case WAITING:
+                predicates.add(cb.equal(status, Status.WAITING));
+                break;
+            case REJECTED:
+                predicates.add(cb.equal(status, Status.REJECTED));
+        }
+        if (cursor != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(start, cursor.getStart()),
+                    cb.and(cb.equal(start, cursor.getStart()), cb.lessThan(id, cursor.getId()))));
+        }
+
+        return query.select(booking)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(start), cb.desc(id));
+    }
+}
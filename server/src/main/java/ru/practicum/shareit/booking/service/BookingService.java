@@ -1,6 +1,7 @@
 package ru.practicum.shareit.booking.service;
 
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.enums.State;
@@ -14,6 +15,10 @@ public interface BookingService {
 
     List<BookingResponseDto> getAllByOwnerId(Long userId, State state, Pageable pageable);
 
+    List<BookingResponseDto> getAllByBookerId(Long userId, State state, BookingCursor cursor, int size);
+
+    List<BookingResponseDto> getAllByOwnerId(Long userId, State state, BookingCursor cursor, int size);
+
     BookingResponseDto add(Long userId, BookingRequestDto bookingRequestDto);
 
     BookingResponseDto update(Long userId, Long id, Boolean approved);
@@ -5,8 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.enums.Role;
 import ru.practicum.shareit.booking.enums.State;
 import ru.practicum.shareit.booking.enums.Status;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
@@ -14,7 +16,7 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.BookingException;
 import ru.practicum.shareit.exception.NotFoundException;
-import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSnapshot;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
@@ -49,77 +51,40 @@ public class BookingServiceImpl implements BookingService {
     public List<BookingResponseDto> getAllByBookerId(Long userId, State state, Pageable pageable) {
         log.info("Вывод всех бронирований пользователя {} и статусом {}.", userId, state);
 
-        userService.getUserById(userId);
-
-        List<Booking> bookings = null;
-        LocalDateTime dateTime = LocalDateTime.now();
-        switch (state) {
-            case ALL:
-                bookings = bookingRepository.findByBookerIdOrderByStartDesc(userId, pageable).toList();
-                break;
-            case CURRENT:
-                bookings = bookingRepository.findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                        userId, dateTime, dateTime, pageable).toList();
-                break;
-            case PAST:
-                bookings = bookingRepository.findByBookerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(
-                        userId, dateTime, Status.APPROVED, pageable).toList();
-                break;
-            case FUTURE:
-                bookings = bookingRepository.findByBookerIdAndStartAfterOrderByStartDesc(
-                        userId, dateTime, pageable).toList();
-                break;
-            case WAITING:
-                bookings = bookingRepository.findByBookerIdAndStatusEqualsOrderByStartDesc(
-                        userId, Status.WAITING, pageable).toList();
-                break;
-            case REJECTED:
-                bookings = bookingRepository.findByBookerIdAndStatusEqualsOrderByStartDesc(
-                        userId, Status.REJECTED, pageable).toList();
-        }
+        userService.getUserSnapshot(userId);
 
-        return bookings.stream()
-                .map(bookingMapper::bookingToBookingResponseDto)
-                .collect(Collectors.toList());
+        return toResponseDtos(bookingRepository.findByUserAndState(Role.BOOKER, userId, state,
+                LocalDateTime.now(), pageable));
     }
 
     @Override
     public List<BookingResponseDto> getAllByOwnerId(Long userId, State state, Pageable pageable) {
         log.info("Вывод всех вещей пользователя {} и статусом {}.", userId, state);
 
-        userService.getUserById(userId);
-
-        List<Booking> bookings = null;
-        LocalDateTime dateTime = LocalDateTime.now();
-
-        switch (state) {
-            case ALL:
-                bookings = bookingRepository.findByItemOwnerIdOrderByStartDesc(userId, pageable).toList();
-                break;
-            case CURRENT:
-                bookings = bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                        userId, dateTime, dateTime, pageable).toList();
-                break;
-            case PAST:
-                bookings = bookingRepository.findByItemOwnerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(
-                        userId, dateTime, Status.APPROVED, pageable).toList();
-                break;
-            case FUTURE:
-                bookings = bookingRepository.findByItemOwnerIdAndStartAfterOrderByStartDesc(
-                        userId, dateTime, pageable).toList();
-                break;
-            case WAITING:
-                bookings = bookingRepository.findByItemOwnerIdAndStatusEqualsOrderByStartDesc(
-                        userId, Status.WAITING, pageable).toList();
-                break;
-            case REJECTED:
-                bookings = bookingRepository.findByItemOwnerIdAndStatusEqualsOrderByStartDesc(
-                        userId, Status.REJECTED, pageable).toList();
-        }
+        userService.getUserSnapshot(userId);
 
-        return bookings.stream()
-                .map(bookingMapper::bookingToBookingResponseDto)
-                .collect(Collectors.toList());
+        return toResponseDtos(bookingRepository.findByUserAndState(Role.OWNER, userId, state,
+                LocalDateTime.now(), pageable));
+    }
+
+    @Override
+    public List<BookingResponseDto> getAllByBookerId(Long userId, State state, BookingCursor cursor, int size) {
+        log.info("Вывод бронирований пользователя {} и статусом {} после {}.", userId, state, cursor);
+
+        userService.getUserSnapshot(userId);
+
+        return toResponseDtos(bookingRepository.findByUserAndStateAfter(Role.BOOKER, userId, state,
+                LocalDateTime.now(), cursor, size));
+    }
+
+    @Override
+    public List<BookingResponseDto> getAllByOwnerId(Long userId, State state, BookingCursor cursor, int size) {
+        log.info("Вывод бронирований вещей пользователя {} и статусом {} после {}.", userId, state, cursor);
+
+        userService.getUserSnapshot(userId);
+
+        return toResponseDtos(bookingRepository.findByUserAndStateAfter(Role.OWNER, userId, state,
+                LocalDateTime.now(), cursor, size));
     }
 
     @Override
@@ -134,25 +99,24 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingException("Недопустимое время брони.");
         }
 
-        Item item = itemService.getItemById(bookingRequestDto.getItemId());
+        ItemSnapshot item = itemService.getItemSnapshot(bookingRequestDto.getItemId());
 
         if (!item.getAvailable()) {
             throw new BookingException("Предмет недоступен для бронирования.");
         }
 
-        List<Booking> savedBookings = bookingRepository.findByItemId(item.getId());
-        if (savedBookings.stream()
-                .filter(b -> Status.APPROVED.equals(b.getStatus()))
-                .anyMatch(b -> b.getStart().isBefore(bookingRequestDto.getEnd()) && b.getEnd().isAfter(bookingRequestDto.getStart()))) {
+        if (bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item.getId(), Status.APPROVED,
+                bookingRequestDto.getEnd(), bookingRequestDto.getStart())) {
             throw new BookingException("Предмет недоступен для бронирования. В это время его еще кто-то использует!");
         }
 
         User user = userService.getUserById(userId);
 
-        if (userId.equals(item.getOwner().getId())) {
+        if (userId.equals(item.getOwnerId())) {
             throw new NotFoundException("Владелец не может бронировать собственную вещь.");
         }
-        Booking booking = bookingMapper.requestDtoToBooking(bookingRequestDto, item, user, Status.WAITING);
+        Booking booking = bookingMapper.requestDtoToBooking(bookingRequestDto, itemService.getItemById(item.getId()),
+                user, Status.WAITING);
         return bookingMapper.bookingToBookingResponseDto(bookingRepository.save(booking));
     }
 
@@ -175,6 +139,12 @@ public class BookingServiceImpl implements BookingService {
         return bookingMapper.bookingToBookingResponseDto(bookingRepository.save(repoBooking));
     }
 
+    private List<BookingResponseDto> toResponseDtos(List<Booking> bookings) {
+        return bookings.stream()
+                .map(bookingMapper::bookingToBookingResponseDto)
+                .collect(Collectors.toList());
+    }
+
     private Booking getBookingById(Long id) {
         return bookingRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Бронирование с таким id не существует."));
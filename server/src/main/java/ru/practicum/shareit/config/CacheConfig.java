@@ -0,0 +1,32 @@
+package ru.practicum.shareit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String USERS = "users";
+    public static final String ITEMS = "items";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${shareit.cache.spec}") String spec, MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(spec);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(USERS, ITEMS));
+        cacheManager.getCacheNames().forEach(name -> CaffeineCacheMetrics.monitor(meterRegistry,
+                ((CaffeineCache) cacheManager.getCache(name)).getNativeCache(), name));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.config;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.event.UserDeletedEvent;
+
+import javax.persistence.EntityManagerFactory;
+
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        entityManagerFactory.getCache().evict(Item.class);
+        entityManagerFactory.getCache().evict(ItemRequest.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+}
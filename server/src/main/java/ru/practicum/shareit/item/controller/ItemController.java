@@ -74,6 +74,12 @@ public class ItemController {
         return itemService.search(text, PageRequest.of(from / size, size));
     }
 
+    @GetMapping("/suggest")
+    public List<String> suggest(@RequestParam String prefix) {
+        log.info("Получен запрос GET /items/suggest " + prefix);
+        return itemService.suggest(prefix);
+    }
+
     @PostMapping("{id}/comment")
     public CommentDto addComment(@RequestHeader(Constants.headerUserId) long userId,
                                  @PathVariable long id,
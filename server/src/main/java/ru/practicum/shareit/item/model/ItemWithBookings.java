@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.booking.model.Booking;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Getter
+@AllArgsConstructor
+public class ItemWithBookings {
+    Item item;
+    Booking lastBooking;
+    Booking nextBooking;
+}
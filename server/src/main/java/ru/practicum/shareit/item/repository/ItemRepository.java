@@ -1,25 +1,61 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSnapshot;
+import ru.practicum.shareit.item.search.IndexedItem;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
     Page<Item> findByOwnerIdOrderByIdAsc(Long ownerId, Pageable pageable);
 
     List<Item> findByRequestIdIn(List<Long> ids);
 
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     List<Item> findByRequestId(Long requestId);
 
-    @Query("SELECT i " +
-            "FROM Item i " +
-            "WHERE (UPPER(i.name) LIKE UPPER(CONCAT('%', ?1, '%') ) " +
-            "OR UPPER(i.description) LIKE UPPER(CONCAT('%', ?1, '%'))) " +
-            "AND i.available = true")
+    @Query(value = "SELECT i.* " +
+            "FROM items i " +
+            "WHERE i.available " +
+            "AND (i.name ILIKE CONCAT('%', :text, '%') OR i.description ILIKE CONCAT('%', :text, '%'))",
+            countQuery = "SELECT COUNT(*) " +
+                    "FROM items i " +
+                    "WHERE i.available " +
+                    "AND (i.name ILIKE CONCAT('%', :text, '%') OR i.description ILIKE CONCAT('%', :text, '%'))",
+            nativeQuery = true)
     Page<Item> search(String text, Pageable pageable);
 
+    @Query(value = "SELECT i.* " +
+            "FROM items i, to_tsquery('russian', :query) q " +
+            "WHERE i.available AND i.search_vector @@ q " +
+            "ORDER BY ts_rank(i.search_vector, q) DESC, i.id",
+            countQuery = "SELECT COUNT(*) " +
+                    "FROM items i, to_tsquery('russian', :query) q " +
+                    "WHERE i.available AND i.search_vector @@ q",
+            nativeQuery = true)
+    Page<Item> fullTextSearch(String query, Pageable pageable);
+
+    @Query("SELECT new ru.practicum.shareit.item.search.IndexedItem(i.id, i.name, i.description, i.owner.id, " +
+            "i.requestId) " +
+            "FROM Item i " +
+            "WHERE i.available = true")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<IndexedItem> streamAvailableForSearchIndex();
+
+    @Cacheable(cacheNames = CacheConfig.ITEMS, unless = "#result == null")
+    @Query("SELECT new ru.practicum.shareit.item.model.ItemSnapshot(i.id, i.name, i.description, i.available, " +
+            "i.owner.id, i.requestId) " +
+            "FROM Item i " +
+            "WHERE i.id = :id")
+    Optional<ItemSnapshot> findSnapshotById(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.repository;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.item.model.ItemWithBookings;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemRepositoryCustom {
+    List<ItemWithBookings> findByOwnerIdWithBookings(Long ownerId, Status status, LocalDateTime dateTime,
+                                                     Pageable pageable);
+
+    Optional<ItemWithBookings> findByIdWithBookings(Long id, Status status, LocalDateTime dateTime);
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.item.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemWithBookings;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+    private static final String SELECT_WITH_BOOKINGS = "SELECT i, lb, nb " +
+            "FROM Item i " +
+            "LEFT JOIN Booking lb ON lb.id = " +
+            "(SELECT MAX(b.id) FROM Booking b WHERE b.item = i AND b.status = :status AND b.start = " +
+            "(SELECT MAX(l.start) FROM Booking l WHERE l.item = i AND l.status = :status AND l.start < :dateTime)) " +
+            "LEFT JOIN Booking nb ON nb.id = " +
+            "(SELECT MAX(b.id) FROM Booking b WHERE b.item = i AND b.status = :status AND b.start = " +
+            "(SELECT MIN(n.start) FROM Booking n WHERE n.item = i AND n.status = :status AND n.start > :dateTime)) ";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ItemWithBookings> findByOwnerIdWithBookings(Long ownerId, Status status, LocalDateTime dateTime,
+                                                            Pageable pageable) {
+        return createQuery(SELECT_WITH_BOOKINGS + "WHERE i.owner.id = :ownerId ORDER BY i.id", status, dateTime)
+                .setParameter("ownerId", ownerId)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(this::toItemWithBookings)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<ItemWithBookings> findByIdWithBookings(Long id, Status status, LocalDateTime dateTime) {
+        return createQuery(SELECT_WITH_BOOKINGS + "WHERE i.id = :id", status, dateTime)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(this::toItemWithBookings);
+    }
+
+    private TypedQuery<Object[]> createQuery(String jpql, Status status, LocalDateTime dateTime) {
+        return entityManager.createQuery(jpql, Object[].class)
+                .setParameter("status", status)
+                .setParameter("dateTime", dateTime);
+    }
+
+    private ItemWithBookings toItemWithBookings(Object[] row) {
+        return new ItemWithBookings((Item) row[0], (Booking) row[1], (Booking) row[2]);
+    }
+}
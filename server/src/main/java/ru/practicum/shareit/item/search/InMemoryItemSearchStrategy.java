@@ -0,0 +1,36 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = ItemSearchStrategy.PROPERTY, havingValue = "in-memory")
+@RequiredArgsConstructor
+public class InMemoryItemSearchStrategy implements ItemSearchStrategy {
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemRepository itemRepository;
+    private final ItemMapper itemMapper;
+
+    @Override
+    public List<ItemDto> search(String text, Pageable pageable) {
+        if (!itemSearchIndex.isReady()) {
+            return itemRepository.search(text, pageable)
+                    .stream()
+                    .map(itemMapper::toItemDto)
+                    .collect(Collectors.toList());
+        }
+
+        return itemSearchIndex.search(text, pageable.getOffset(), pageable.getPageSize())
+                .stream()
+                .map(IndexedItem::toItemDto)
+                .collect(Collectors.toList());
+    }
+}
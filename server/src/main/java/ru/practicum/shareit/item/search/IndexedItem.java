@@ -0,0 +1,54 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.Locale;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Getter
+public class IndexedItem {
+    Long id;
+    String name;
+    String description;
+    Long ownerId;
+    Long requestId;
+    String searchName;
+    String searchDescription;
+
+    public IndexedItem(Long id, String name, String description, Long ownerId, Long requestId) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.ownerId = ownerId;
+        this.requestId = requestId;
+        this.searchName = normalize(name);
+        this.searchDescription = normalize(description);
+    }
+
+    public static IndexedItem of(ItemDto itemDto) {
+        return new IndexedItem(itemDto.getId(), itemDto.getName(), itemDto.getDescription(), itemDto.getOwnerId(),
+                itemDto.getRequestId());
+    }
+
+    public static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    public boolean matches(String normalizedText) {
+        return searchName.contains(normalizedText) || searchDescription.contains(normalizedText);
+    }
+
+    public ItemDto toItemDto() {
+        return ItemDto.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .available(true)
+                .ownerId(ownerId)
+                .requestId(requestId)
+                .build();
+    }
+}
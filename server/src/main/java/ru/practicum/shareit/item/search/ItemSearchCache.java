@@ -0,0 +1,85 @@
+package ru.practicum.shareit.item.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.event.ItemDeletedEvent;
+import ru.practicum.shareit.item.event.ItemSavedEvent;
+import ru.practicum.shareit.user.event.UserDeletedEvent;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class ItemSearchCache {
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int ITEM_OVERHEAD = 96;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Cache<Key, List<ItemDto>> cache;
+
+    public ItemSearchCache(@Value("${shareit.search.cache.max-size}") DataSize maxSize, MeterRegistry meterRegistry) {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher(ItemSearchCache::weigh)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "item-search");
+    }
+
+    public List<ItemDto> get(String text, Pageable pageable, Supplier<List<ItemDto>> search) {
+        Key key = new Key(catalogVersion.get(), IndexedItem.normalize(text), pageable.getOffset(),
+                pageable.getPageSize());
+        return cache.get(key, ignored -> List.copyOf(search.get()));
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onItemSaved(ItemSavedEvent event) {
+        catalogVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onItemDeleted(ItemDeletedEvent event) {
+        catalogVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onUserDeleted(UserDeletedEvent event) {
+        catalogVersion.incrementAndGet();
+    }
+
+    private static int weigh(Key key, List<ItemDto> items) {
+        long weight = ENTRY_OVERHEAD + 2L * key.text.length();
+        for (ItemDto item : items) {
+            weight += ITEM_OVERHEAD + 2L * (item.getName().length() + item.getDescription().length());
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        long version;
+        String text;
+        long offset;
+        int size;
+    }
+}
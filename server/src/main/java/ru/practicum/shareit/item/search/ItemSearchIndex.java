@@ -0,0 +1,196 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.event.ItemDeletedEvent;
+import ru.practicum.shareit.item.event.ItemSavedEvent;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.event.UserDeletedEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = ItemSearchStrategy.PROPERTY, havingValue = "in-memory")
+@RequiredArgsConstructor
+public class ItemSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final ItemRepository itemRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedItem> items = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final PostingList allIds = new PostingList();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            log.info("Построение индекса поиска вещей.");
+            items.clear();
+            postings.clear();
+            allIds.clear();
+            try (Stream<IndexedItem> stream = itemRepository.streamAvailableForSearchIndex()) {
+                stream.forEach(this::put);
+            }
+            ready = true;
+            log.info("Индекс поиска вещей построен: {} вещей, {} триграмм.", items.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onItemSaved(ItemSavedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getItem().getId());
+            if (Boolean.TRUE.equals(event.getItem().getAvailable())) {
+                put(IndexedItem.of(event.getItem()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onItemDeleted(ItemDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onUserDeleted(UserDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            items.values().stream()
+                    .filter(item -> Objects.equals(item.getOwnerId(), event.getId()))
+                    .map(IndexedItem::getId)
+                    .collect(Collectors.toList())
+                    .forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<IndexedItem> search(String text, long offset, int limit) {
+        String normalizedText = IndexedItem.normalize(text);
+        List<IndexedItem> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> candidates = new ArrayList<>();
+            for (String gram : grams(normalizedText)) {
+                PostingList postingList = postings.get(gram);
+                if (postingList == null) {
+                    return result;
+                }
+                candidates.add(postingList);
+            }
+            if (candidates.isEmpty()) {
+                candidates.add(allIds);
+            }
+            candidates.sort(Comparator.comparingInt(PostingList::size));
+
+            PostingList smallest = candidates.get(0);
+            long skipped = 0;
+            for (int i = 0; i < smallest.size() && result.size() < limit; i++) {
+                long id = smallest.get(i);
+                if (!containsInAll(candidates, id)) {
+                    continue;
+                }
+                IndexedItem item = items.get(id);
+                if (!item.matches(normalizedText)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    result.add(item);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean containsInAll(List<PostingList> candidates, long id) {
+        for (int i = 1; i < candidates.size(); i++) {
+            if (!candidates.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void put(IndexedItem item) {
+        items.put(item.getId(), item);
+        allIds.add(item.getId());
+        for (String gram : grams(item)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(item.getId());
+        }
+    }
+
+    private void remove(Long id) {
+        IndexedItem item = items.remove(id);
+        if (item == null) {
+            return;
+        }
+        allIds.remove(id);
+        for (String gram : grams(item)) {
+            PostingList postingList = postings.get(gram);
+            postingList.remove(id);
+            if (postingList.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams(IndexedItem item) {
+        Set<String> grams = grams(item.getSearchName());
+        grams.addAll(grams(item.getSearchDescription()));
+        return grams;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+
+public interface ItemSearchStrategy {
+    String PROPERTY = "shareit.search.strategy";
+
+    List<ItemDto> search(String text, Pageable pageable);
+}
@@ -0,0 +1,145 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.event.ItemDeletedEvent;
+import ru.practicum.shareit.item.event.ItemSavedEvent;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.event.UserDeletedEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = ItemSuggestIndex.PROPERTY, havingValue = "true")
+@RequiredArgsConstructor
+public class ItemSuggestIndex {
+    public static final String PROPERTY = "shareit.suggest.enabled";
+
+    private static final int MAX_SUGGESTIONS = 10;
+    private static final String TOKEN_DELIMITER = "[^\\p{L}\\p{N}]+";
+
+    private final ItemRepository itemRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NameTrie trie = new NameTrie(MAX_SUGGESTIONS);
+    private final Map<Long, IndexedName> names = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            log.info("Построение индекса подсказок по названиям вещей.");
+            trie.clear();
+            names.clear();
+            try (Stream<IndexedItem> stream = itemRepository.streamAvailableForSearchIndex()) {
+                stream.forEach(item -> put(item.getId(), item.getOwnerId(), item.getName()));
+            }
+            log.info("Индекс подсказок построен: {} вещей.", names.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemSaved(ItemSavedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getItem().getId());
+            if (Boolean.TRUE.equals(event.getItem().getAvailable())) {
+                put(event.getItem().getId(), event.getItem().getOwnerId(), event.getItem().getName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemDeleted(ItemDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            names.entrySet().stream()
+                    .filter(entry -> Objects.equals(entry.getValue().ownerId, event.getId()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList())
+                    .forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<String> suggest(String prefix) {
+        String[] tokens = tokenize(prefix);
+        if (tokens.length == 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            return trie.suggest(tokens[tokens.length - 1]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long id, Long ownerId, String name) {
+        String[] tokens = tokenize(name);
+        names.put(id, new IndexedName(ownerId, tokens));
+        for (String token : tokens) {
+            trie.add(token);
+        }
+    }
+
+    private void remove(Long id) {
+        IndexedName name = names.remove(id);
+        if (name == null) {
+            return;
+        }
+        for (String token : name.tokens) {
+            trie.remove(token);
+        }
+    }
+
+    private static String[] tokenize(String text) {
+        return Arrays.stream(IndexedItem.normalize(text).split(TOKEN_DELIMITER))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private static class IndexedName {
+        final Long ownerId;
+        final String[] tokens;
+
+        IndexedName(Long ownerId, String[] tokens) {
+            this.ownerId = ownerId;
+            this.tokens = tokens;
+        }
+    }
+}
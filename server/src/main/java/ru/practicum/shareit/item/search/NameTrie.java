@@ -0,0 +1,135 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class NameTrie {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Comparator<Node> BY_COUNT = Comparator.comparingInt((Node node) -> node.count)
+            .reversed()
+            .thenComparing(node -> node.word);
+
+    private final int limit;
+    private final Node root = new Node();
+
+    NameTrie(int limit) {
+        this.limit = limit;
+    }
+
+    void add(String word) {
+        Node node = root;
+        node.top = null;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.childOrCreate(word.charAt(i));
+            node.top = null;
+        }
+        node.word = word;
+        node.count++;
+    }
+
+    void remove(String word) {
+        remove(root, word, 0);
+    }
+
+    void clear() {
+        root.keys = NO_KEYS;
+        root.children = NO_CHILDREN;
+        root.top = null;
+    }
+
+    List<String> suggest(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return new ArrayList<>();
+        }
+        return top(node).stream()
+                .map(top -> top.word)
+                .collect(Collectors.toList());
+    }
+
+    private boolean remove(Node node, String word, int depth) {
+        node.top = null;
+        if (depth == word.length()) {
+            if (node.count > 0 && --node.count == 0) {
+                node.word = null;
+            }
+        } else {
+            char key = word.charAt(depth);
+            Node child = node.child(key);
+            if (child != null && remove(child, word, depth + 1)) {
+                node.removeChild(key);
+            }
+        }
+        return node.count == 0 && node.keys.length == 0;
+    }
+
+    private List<Node> top(Node node) {
+        if (node.top == null) {
+            List<Node> candidates = new ArrayList<>();
+            if (node.count > 0) {
+                candidates.add(node);
+            }
+            for (Node child : node.children) {
+                candidates.addAll(top(child));
+            }
+            candidates.sort(BY_COUNT);
+            node.top = candidates.size() > limit ? new ArrayList<>(candidates.subList(0, limit)) : candidates;
+        }
+        return node.top;
+    }
+
+    private static class Node {
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        String word;
+        int count;
+        volatile List<Node> top;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertion = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            System.arraycopy(keys, insertion, newKeys, insertion + 1, keys.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+            Node child = new Node();
+            newKeys[insertion] = key;
+            newChildren[insertion] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+}
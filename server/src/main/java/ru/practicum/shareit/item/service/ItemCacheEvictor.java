@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.config.CacheConfig;
+import ru.practicum.shareit.item.model.ItemSnapshot;
+import ru.practicum.shareit.user.event.UserDeletedEvent;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class ItemCacheEvictor {
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener
+    @SuppressWarnings("unchecked")
+    public void onUserDeleted(UserDeletedEvent event) {
+        Cache<Object, ItemSnapshot> items = (Cache<Object, ItemSnapshot>) Objects.requireNonNull(
+                cacheManager.getCache(CacheConfig.ITEMS)).getNativeCache();
+        items.asMap().values().removeIf(item -> Objects.equals(item.getOwnerId(), event.getId()));
+    }
+}
@@ -6,6 +6,7 @@ import ru.practicum.shareit.comment.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemExtendedDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSnapshot;
 
 import java.util.List;
 
@@ -22,7 +23,18 @@ public interface ItemService {
 
     List<ItemDto> search(String text, Pageable pageable);
 
+    List<String> suggest(String prefix);
+
     CommentDto addComment(Long userId, Long id, CommentRequestDto commentRequestDto);
 
+    /**
+     * Ссылка на управляемую сущность для связей, сохраняемых в текущей транзакции.
+     * Существование проверяется по кэшу, поля загружаются лениво только внутри транзакции.
+     */
     Item getItemById(Long id);
+
+    /**
+     * Отсоединённая копия из кэша только для чтения, владелец доступен только по id.
+     */
+    ItemSnapshot getItemSnapshot(Long id);
 }
\ No newline at end of file
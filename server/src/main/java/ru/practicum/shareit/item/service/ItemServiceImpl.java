@@ -2,14 +2,15 @@ package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
-import ru.practicum.shareit.booking.dto.BookingItemDto;
 import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exception.AuthorisationException;
 import ru.practicum.shareit.exception.BookingException;
 import ru.practicum.shareit.exception.NotFoundException;
@@ -17,11 +18,18 @@ import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemExtendedDto;
+import ru.practicum.shareit.item.event.ItemDeletedEvent;
+import ru.practicum.shareit.item.event.ItemSavedEvent;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSnapshot;
+import ru.practicum.shareit.item.model.ItemWithBookings;
 import ru.practicum.shareit.comment.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchCache;
+import ru.practicum.shareit.item.search.ItemSearchStrategy;
+import ru.practicum.shareit.item.search.ItemSuggestIndex;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
@@ -38,95 +46,50 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemMapper itemMapper;
+    private final ItemSearchStrategy itemSearchStrategy;
+    private final ItemSearchCache itemSearchCache;
+    private final ObjectProvider<ItemSuggestIndex> itemSuggestIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<ItemExtendedDto> getByOwnerId(Long userId, Pageable pageable) {
         log.info("Вывод всех вещей пользователя с id {}.", userId);
 
-        Page<Item> items = itemRepository.findByOwnerIdOrderByIdAsc(userId, pageable);
+        List<ItemWithBookings> items = itemRepository.findByOwnerIdWithBookings(userId, Status.APPROVED,
+                LocalDateTime.now(), pageable);
 
         List<Long> itemIds = items.stream()
-                .map(Item::getId)
+                .map(item -> item.getItem().getId())
                 .collect(Collectors.toList());
 
-        Map<Long, List<Comment>> commentsByItem = commentRepository.findByItemIdIn(itemIds)
+        Map<Long, List<CommentDto>> commentDtosByItem = commentRepository.findByItemIdIn(itemIds)
                 .stream()
-                .collect(Collectors.groupingBy(Comment::getItemId));
-        Map<Item, List<Booking>> bookingsByItem = bookingRepository.findByItemIdIn(itemIds)
-                .stream()
-                .collect(Collectors.groupingBy(Booking::getItem));
-
-        Map<Long, List<CommentDto>> commentDtosByItem = new HashMap<>();
-        for (Item item : items) {
-            if (commentsByItem.get(item.getId()) == null) {
-                commentDtosByItem.put(item.getId(), new ArrayList<>());
-            } else {
-                commentDtosByItem.put(item.getId(), commentsByItem.get(item.getId())
-                        .stream()
-                        .map(itemMapper::commentToCommentDto)
-                        .collect(Collectors.toList()));
-            }
-        }
-
-        Map<Long, List<BookingItemDto>> bookingDtosByItem = new HashMap<>();
-
-        for (Item item : items) {
-            if (bookingsByItem.get(item) != null) {
-                bookingDtosByItem.put(item.getId(), bookingsByItem.get(item)
-                        .stream()
-                        .filter(Booking -> Booking.getStatus().equals(Status.APPROVED))
-                        .map(itemMapper::bookingToBookingItemDto)
-                        .sorted(Comparator.comparing(BookingItemDto::getStart))
-                        .collect(Collectors.toList()));
-            }
-        }
-        Map<Long, BookingItemDto> lastBookingByItem = new HashMap<>();
-        Map<Long, BookingItemDto> nextBookingByItem = new HashMap<>();
-
-        for (Item item : items) {
-            if (bookingsByItem.get(item) == null) {
-                lastBookingByItem.put(item.getId(), null);
-                nextBookingByItem.put(item.getId(), null);
-            }
-            if (bookingsByItem.get(item) != null) {
-                lastBookingByItem.put(item.getId(), bookingDtosByItem.get(item.getId())
-                        .stream()
-                        .filter(b -> b.getStart().isBefore(LocalDateTime.now()))
-                        .min(Comparator.comparing(BookingItemDto::getStart))
-                        .orElse(null));
-
-                nextBookingByItem.put(item.getId(), bookingDtosByItem.get(item.getId())
-                        .stream()
-                        .filter(b -> b.getStart().isAfter(LocalDateTime.now()))
-                        .min(Comparator.comparing(BookingItemDto::getStart))
-                        .orElse(null));
-            }
-        }
-
-        List<ItemExtendedDto> itemExtendedDtos = items.stream()
-                .map(item -> itemMapper.toItemExtendedDto(item, null, null, null))
+                .collect(Collectors.groupingBy(Comment::getItemId,
+                        Collectors.mapping(itemMapper::commentToCommentDto, Collectors.toList())));
+
+        return items.stream()
+                .map(item -> itemMapper.toItemExtendedDto(item.getItem(),
+                        itemMapper.bookingToBookingItemDto(item.getLastBooking()),
+                        itemMapper.bookingToBookingItemDto(item.getNextBooking()),
+                        commentDtosByItem.getOrDefault(item.getItem().getId(), new ArrayList<>())))
                 .collect(Collectors.toList());
-
-        itemExtendedDtos.forEach(ItemDto -> ItemDto.setComments(commentDtosByItem.get(ItemDto.getId())));
-        itemExtendedDtos.forEach(ItemDto -> ItemDto.setNextBooking(nextBookingByItem.get(ItemDto.getId())));
-        itemExtendedDtos.forEach(ItemDto -> ItemDto.setLastBooking(lastBookingByItem.get(ItemDto.getId())));
-        return itemExtendedDtos;
     }
 
     @Override
     public ItemExtendedDto getById(Long userId, Long id) {
         log.info("Вывод вещи с id {}.", id);
 
-        Item item = getItemById(id);
-        if (!Objects.equals(userId, item.getOwner().getId())) {
-            return itemMapper.toItemExtendedDto(item, null, null, addComments(item));
-        } else {
-            List<CommentDto> comments = addComments(item);
+        ItemWithBookings item = itemRepository.findByIdWithBookings(id, Status.APPROVED, LocalDateTime.now())
+                .orElseThrow(() -> new NotFoundException("Вещи с таким id не существует."));
+        List<CommentDto> comments = addComments(item.getItem());
 
-            return itemMapper
-                    .toItemExtendedDto(item, addLastBooking(item),
-                            addNextBooking(item),
-                            Objects.requireNonNullElseGet(comments, ArrayList::new));
+        if (!Objects.equals(userId, item.getItem().getOwner().getId())) {
+            return itemMapper.toItemExtendedDto(item.getItem(), null, null, comments);
+        } else {
+            return itemMapper.toItemExtendedDto(item.getItem(),
+                    itemMapper.bookingToBookingItemDto(item.getLastBooking()),
+                    itemMapper.bookingToBookingItemDto(item.getNextBooking()),
+                    comments);
         }
     }
 
@@ -135,11 +98,14 @@ public class ItemServiceImpl implements ItemService {
     public ItemDto add(Long userId, ItemDto itemDto) {
         log.info("Создание вещи {} пользователем с id {}.", itemDto, userId);
         Item item = itemMapper.toItem(itemDto, userService.getUserById(userId));
-        return itemMapper.toItemDto(itemRepository.save(item));
+        ItemDto savedItem = itemMapper.toItemDto(itemRepository.save(item));
+        eventPublisher.publishEvent(new ItemSavedEvent(savedItem));
+        return savedItem;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ITEMS, key = "#id")
     public ItemDto update(Long userId, Long id, ItemDto itemDto) {
         log.info("Обновление вещи {} с id {} пользователем с id {}.", itemDto, id, userId);
 
@@ -160,14 +126,18 @@ public class ItemServiceImpl implements ItemService {
             repoItem.setAvailable(itemDto.getAvailable());
         }
 
-        return itemMapper.toItemDto(itemRepository.save(repoItem));
+        ItemDto savedItem = itemMapper.toItemDto(itemRepository.save(repoItem));
+        eventPublisher.publishEvent(new ItemSavedEvent(savedItem));
+        return savedItem;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ITEMS, key = "#id")
     public void delete(Long id) {
         log.info("Удаление вещи с id {}.", id);
         itemRepository.deleteById(id);
+        eventPublisher.publishEvent(new ItemDeletedEvent(id));
     }
 
     @Override
@@ -178,10 +148,17 @@ public class ItemServiceImpl implements ItemService {
             return new ArrayList<>();
         }
 
-        return itemRepository.search(text, pageable)
-                .stream()
-                .map(itemMapper::toItemDto)
-                .collect(Collectors.toList());
+        return itemSearchCache.get(text, pageable, () -> itemSearchStrategy.search(text, pageable));
+    }
+
+    @Override
+    public List<String> suggest(String prefix) {
+        log.info("Подсказки для названий вещей с префиксом \"{}\".", prefix);
+        ItemSuggestIndex index = itemSuggestIndex.getIfAvailable();
+        if (index == null) {
+            return new ArrayList<>();
+        }
+        return index.suggest(prefix);
     }
 
     @Override
@@ -204,32 +181,13 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public Item getItemById(Long id) {
-        return itemRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Вещи с таким id не существует."));
-    }
-
-    private BookingItemDto addLastBooking(Item item) {
-        List<Booking> bookings = bookingRepository.findByItemIdAndStartBeforeAndStatusEqualsOrderByStartDesc(
-                item.getId(), LocalDateTime.now(), Status.APPROVED);
-
-        if (bookings.isEmpty()) {
-            return null;
-        } else {
-            Booking lastBooking = bookings.get(0);
-            return itemMapper.bookingToBookingItemDto(lastBooking);
-        }
+        return itemRepository.getReferenceById(getItemSnapshot(id).getId());
     }
 
-    private BookingItemDto addNextBooking(Item item) {
-        List<Booking> bookings = bookingRepository.findByItemIdAndStartAfterAndStatusEqualsOrderByStartAsc(
-                item.getId(), LocalDateTime.now(), Status.APPROVED);
-
-        if (bookings.isEmpty()) {
-            return null;
-        } else {
-            Booking nextBooking = bookings.get(0);
-            return itemMapper.bookingToBookingItemDto(nextBooking);
-        }
+    @Override
+    public ItemSnapshot getItemSnapshot(Long id) {
+        return itemRepository.findSnapshotById(id)
+                .orElseThrow(() -> new NotFoundException("Вещи с таким id не существует."));
     }
 
     private List<CommentDto> addComments(Item item) {
@@ -2,6 +2,7 @@ package ru.practicum.shareit.markers;
 
 public abstract class Constants {
     public static final String headerUserId = "X-Sharer-User-Id";
+    public static final String headerNextCursor = "X-Next-Cursor";
     public static final String PAGE_DEFAULT_FROM = "0";
     public static final String PAGE_DEFAULT_SIZE = "10";
 }
@@ -50,7 +50,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     public ItemRequestExtendedDto getById(Long userId, Long id) {
         log.info("Вывод запроса вещи с id {} пользователем с id {}.", id, userId);
 
-        userService.getUserById(userId);
+        userService.getUserSnapshot(userId);
         ItemRequest itemRequest = itemRequestRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Запроса вещи с таким id не существует."));
 
@@ -65,7 +65,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     public List<ItemRequestExtendedDto> getByRequestorId(Long userId) {
         log.info("Вывод всех запросов вещей пользователем с id {}.", userId);
 
-        userService.getUserById(userId);
+        userService.getUserSnapshot(userId);
         List<ItemRequest> itemRequests = itemRequestRepository.findByRequestorId_IdOrderByCreatedAsc(userId);
 
         List<Long> itemRequestIds = itemRequests.stream()
@@ -100,7 +100,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     public List<ItemRequestExtendedDto> getAll(Long userId, Pageable pageable) {
         log.info("Вывод всех запросов вещей постранично {}.", pageable);
 
-        userService.getUserById(userId);
+        userService.getUserSnapshot(userId);
         Page<ItemRequest> itemRequests = itemRequestRepository.findByRequestorId_IdNot(userId, pageable);
         List<Long> itemRequestIds = itemRequests.stream().map(ItemRequest::getId).collect(Collectors.toList());
         Map<Long, List<ItemDto>> itemDtosForRequestId = itemRepository.findByRequestIdIn(itemRequestIds)
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.user.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Getter
+@AllArgsConstructor
+@ToString
+public class UserDeletedEvent {
+    Long id;
+}
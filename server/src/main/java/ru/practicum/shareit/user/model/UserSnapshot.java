@@ -0,0 +1,15 @@
+package ru.practicum.shareit.user.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Getter
+@AllArgsConstructor
+public class UserSnapshot {
+    Long id;
+    String name;
+    String email;
+}
@@ -1,7 +1,18 @@
 package ru.practicum.shareit.user.repository;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserSnapshot;
+
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-}
\ No newline at end of file
+    @Cacheable(cacheNames = CacheConfig.USERS, unless = "#result == null")
+    @Query("SELECT new ru.practicum.shareit.user.model.UserSnapshot(u.id, u.name, u.email) " +
+            "FROM User u " +
+            "WHERE u.id = :id")
+    Optional<UserSnapshot> findSnapshotById(Long id);
+}
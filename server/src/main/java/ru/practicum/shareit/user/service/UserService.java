@@ -2,6 +2,7 @@ package ru.practicum.shareit.user.service;
 
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserSnapshot;
 
 import java.util.List;
 
@@ -16,5 +17,14 @@ public interface UserService {
 
     void delete(Long id);
 
+    /**
+     * Ссылка на управляемую сущность для связей, сохраняемых в текущей транзакции.
+     * Существование проверяется по кэшу, поля загружаются лениво только внутри транзакции.
+     */
     User getUserById(Long id);
+
+    /**
+     * Отсоединённая копия из кэша только для чтения, в связи сущностей не передаётся.
+     */
+    UserSnapshot getUserSnapshot(Long id);
 }
\ No newline at end of file
@@ -2,10 +2,15 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.user.event.UserDeletedEvent;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserSnapshot;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.repository.UserRepository;
@@ -20,6 +25,7 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<UserDto> getAll() {
@@ -45,6 +51,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public UserDto update(Long id, UserDto userDto) {
         log.info("Обновление пользователя {} с id {}.", userDto, id);
 
@@ -63,14 +70,21 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public void delete(Long id) {
         log.info("Удаление пользователя с id {}", id);
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
     }
 
     @Override
     public User getUserById(Long id) {
-        return userRepository.findById(id)
+        return userRepository.getReferenceById(getUserSnapshot(id).getId());
+    }
+
+    @Override
+    public UserSnapshot getUserSnapshot(Long id) {
+        return userRepository.findSnapshotById(id)
                 .orElseThrow(() -> new NotFoundException("Пользователя с таким id не существует."));
     }
 }
\ No newline at end of file
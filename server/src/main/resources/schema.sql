@@ -34,9 +34,18 @@ CREATE TABLE IF NOT EXISTS bookings
     end_date   TIMESTAMP WITHOUT TIME ZONE,
     item_id    BIGINT NOT NULL REFERENCES items (id) ON DELETE CASCADE,
     booker_id  BIGINT NOT NULL REFERENCES users (id) ON DELETE CASCADE,
-    status     VARCHAR(128)
+    status     VARCHAR(128),
+    CONSTRAINT pk_booking PRIMARY KEY (id)
 );
 
+CREATE INDEX IF NOT EXISTS idx_items_owner ON items (owner_id);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start ON bookings (booker_id, start_date DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_status_start ON bookings (booker_id, status, start_date);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_start ON bookings (item_id, start_date DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_status_start ON bookings (item_id, status, start_date);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_status_end ON bookings (item_id, status, end_date, start_date);
+
 CREATE TABLE IF NOT EXISTS comments
 (
     id           BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
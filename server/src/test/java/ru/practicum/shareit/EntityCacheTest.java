@@ -0,0 +1,154 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSnapshot;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.practicum.shareit.SqlStatementCaptor")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class EntityCacheTest {
+    private final UserService userService;
+    private final ItemService itemService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private UserDto owner;
+    private ItemDto item;
+
+    @BeforeEach
+    public void beforeEach() {
+        owner = userService.add(UserDto.builder()
+                .name("Owner")
+                .email("owner@ya.ru")
+                .build());
+        item = itemService.add(owner.getId(), ItemDto.builder()
+                .name("Дрель")
+                .description("Аккумуляторная дрель")
+                .available(true)
+                .build());
+    }
+
+    @Test
+    public void shouldReadUserFromCache() {
+        userService.getUserSnapshot(owner.getId());
+        double hits = userCacheHits();
+        SqlStatementCaptor.clear();
+
+        assertEquals("Owner", userService.getUserSnapshot(owner.getId()).getName());
+        assertTrue(SqlStatementCaptor.getStatements().isEmpty());
+        assertEquals(hits + 1, userCacheHits());
+    }
+
+    private double userCacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "users")
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+
+    @Test
+    public void shouldEvictUserOnUpdate() {
+        userService.getUserSnapshot(owner.getId());
+        userService.update(owner.getId(), UserDto.builder()
+                .name("New owner")
+                .build());
+
+        assertEquals("New owner", userService.getUserSnapshot(owner.getId()).getName());
+    }
+
+    @Test
+    public void shouldReadItemFromCache() {
+        itemService.getItemSnapshot(item.getId());
+        SqlStatementCaptor.clear();
+
+        assertEquals("Дрель", itemService.getItemSnapshot(item.getId()).getName());
+        assertTrue(SqlStatementCaptor.getStatements().isEmpty());
+    }
+
+    @Test
+    public void shouldReturnManagedReferencesInsideTransaction() {
+        itemService.getItemSnapshot(item.getId());
+        userService.getUserSnapshot(owner.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            SqlStatementCaptor.clear();
+            Item reference = itemService.getItemById(item.getId());
+            User user = userService.getUserById(owner.getId());
+
+            assertTrue(SqlStatementCaptor.getStatements().isEmpty());
+            assertTrue(entityManager.contains(reference));
+            assertTrue(entityManager.contains(user));
+            assertSame(user, reference.getOwner());
+        });
+    }
+
+    @Test
+    public void shouldReturnDetachedSnapshots() {
+        itemService.getItemSnapshot(item.getId());
+
+        ItemSnapshot cachedItem = itemService.getItemSnapshot(item.getId());
+
+        assertEquals(owner.getId(), cachedItem.getOwnerId());
+        assertSame(cachedItem, itemService.getItemSnapshot(item.getId()));
+    }
+
+    @Test
+    public void shouldEvictItemOnUpdate() {
+        itemService.getItemSnapshot(item.getId());
+        itemService.update(owner.getId(), item.getId(), ItemDto.builder()
+                .available(false)
+                .build());
+
+        assertEquals(false, itemService.getItemSnapshot(item.getId()).getAvailable());
+    }
+
+    @Test
+    public void shouldEvictUserAndItemsOnUserDelete() {
+        userService.getUserSnapshot(owner.getId());
+        itemService.getItemSnapshot(item.getId());
+        userService.delete(owner.getId());
+
+        assertEquals("Пользователя с таким id не существует.", assertThrows(
+                NotFoundException.class, () -> userService.getUserSnapshot(owner.getId())).getMessage());
+        assertEquals("Вещи с таким id не существует.", assertThrows(
+                NotFoundException.class, () -> itemService.getItemSnapshot(item.getId())).getMessage());
+    }
+
+    @Test
+    public void shouldKeepOtherOwnersItemsOnUserDelete() {
+        UserDto otherUser = userService.add(UserDto.builder()
+                .name("Other")
+                .email("other@ya.ru")
+                .build());
+        itemService.getItemSnapshot(item.getId());
+        userService.delete(otherUser.getId());
+        SqlStatementCaptor.clear();
+
+        assertEquals("Дрель", itemService.getItemSnapshot(item.getId()).getName());
+        assertTrue(SqlStatementCaptor.getStatements().isEmpty());
+    }
+}
@@ -0,0 +1,135 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=ru.practicum.shareit.SqlStatementCaptor",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class SecondLevelCacheTest {
+    private final UserService userService;
+    private final ItemService itemService;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository itemRequestRepository;
+
+    private UserDto owner;
+    private User requestor;
+    private ItemRequest itemRequest;
+    private ItemDto item;
+
+    @BeforeEach
+    public void beforeEach() {
+        owner = userService.add(UserDto.builder()
+                .name("Owner")
+                .email("owner@ya.ru")
+                .build());
+        requestor = userRepository.save(User.builder()
+                .name("Requestor")
+                .email("requestor@ya.ru")
+                .build());
+        itemRequest = itemRequestRepository.save(ItemRequest.builder()
+                .description("Нужна дрель")
+                .requestorId(requestor)
+                .created(LocalDateTime.now())
+                .build());
+        item = addItem("Дрель");
+    }
+
+    private ItemDto addItem(String name) {
+        return itemService.add(owner.getId(), ItemDto.builder()
+                .name(name)
+                .description("description")
+                .available(true)
+                .requestId(itemRequest.getId())
+                .build());
+    }
+
+    @Test
+    public void shouldReadEntitiesFromSecondLevelCache() {
+        userRepository.findById(owner.getId());
+        itemRepository.findById(item.getId());
+        itemRequestRepository.findById(itemRequest.getId());
+        SqlStatementCaptor.clear();
+
+        assertEquals("Owner", userRepository.findById(owner.getId()).orElseThrow().getName());
+        assertEquals("Дрель", itemRepository.findById(item.getId()).orElseThrow().getName());
+        assertEquals("Нужна дрель", itemRequestRepository.findById(itemRequest.getId()).orElseThrow()
+                .getDescription());
+        assertTrue(SqlStatementCaptor.getStatements().isEmpty(), String.join("\n",
+                SqlStatementCaptor.getStatements()));
+    }
+
+    @Test
+    public void shouldUpdateCachedEntities() {
+        userRepository.findById(owner.getId());
+        itemRepository.findById(item.getId());
+
+        userService.update(owner.getId(), UserDto.builder()
+                .name("New owner")
+                .build());
+        itemService.update(owner.getId(), item.getId(), ItemDto.builder()
+                .name("Шуруповёрт")
+                .build());
+
+        assertEquals("New owner", userRepository.findById(owner.getId()).orElseThrow().getName());
+        assertEquals("Шуруповёрт", itemRepository.findById(item.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void shouldCacheItemsByRequestIdUntilItemsChange() {
+        itemRepository.findByRequestId(itemRequest.getId());
+        SqlStatementCaptor.clear();
+
+        assertEquals(1, itemRepository.findByRequestId(itemRequest.getId()).size());
+        assertTrue(SqlStatementCaptor.getStatements().isEmpty(), String.join("\n",
+                SqlStatementCaptor.getStatements()));
+
+        addItem("Перфоратор");
+
+        assertEquals(2, itemRepository.findByRequestId(itemRequest.getId()).size());
+
+        itemService.delete(item.getId());
+
+        assertEquals(1, itemRepository.findByRequestId(itemRequest.getId()).size());
+    }
+
+    @Test
+    public void shouldEvictRowsDeletedByCascade() {
+        itemRepository.findById(item.getId());
+        itemRequestRepository.findById(itemRequest.getId());
+        itemRepository.findByRequestId(itemRequest.getId());
+
+        userService.delete(owner.getId());
+
+        assertTrue(itemRepository.findById(item.getId()).isEmpty());
+        assertTrue(itemRepository.findByRequestId(itemRequest.getId()).isEmpty());
+
+        userService.delete(requestor.getId());
+
+        assertTrue(itemRequestRepository.findById(itemRequest.getId()).isEmpty());
+    }
+}
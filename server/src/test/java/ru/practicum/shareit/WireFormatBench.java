@@ -0,0 +1,59 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+
+public class WireFormatBench {
+    private static final int ITERATIONS = Integer.getInteger("iterations", 20_000);
+
+    public static void main(String[] args) throws IOException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(args)) {
+            ObjectMapper jsonMapper = context.getBean(ObjectMapper.class);
+            ObjectMapper smileMapper = context.getBean(MappingJackson2SmileHttpMessageConverter.class)
+                    .getObjectMapper();
+
+            compare("List<BookingResponseDto>", WireFormatPayloads.bookings(), jsonMapper, smileMapper);
+            compare("List<ItemExtendedDto>", WireFormatPayloads.items(), jsonMapper, smileMapper);
+        }
+    }
+
+    private static void compare(String name, Object payload, ObjectMapper jsonMapper, ObjectMapper smileMapper)
+            throws IOException {
+        byte[] json = jsonMapper.writeValueAsBytes(payload);
+        byte[] smile = smileMapper.writeValueAsBytes(payload);
+        System.out.printf("%s: размер JSON %d байт, Smile %d байт; сериализация JSON %d мкс, Smile %d мкс; "
+                        + "десериализация JSON %d мкс, Smile %d мкс%n", name, json.length, smile.length,
+                measureWrite(jsonMapper, payload) / 1000, measureWrite(smileMapper, payload) / 1000,
+                measureRead(jsonMapper, json) / 1000, measureRead(smileMapper, smile) / 1000);
+    }
+
+    private static long measureWrite(ObjectMapper mapper, Object payload) throws IOException {
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+        return (System.nanoTime() - begin) / ITERATIONS;
+    }
+
+    private static long measureRead(ObjectMapper mapper, byte[] payload) throws IOException {
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.readValue(payload, Object.class);
+        }
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.readValue(payload, Object.class);
+        }
+        return (System.nanoTime() - begin) / ITERATIONS;
+    }
+}
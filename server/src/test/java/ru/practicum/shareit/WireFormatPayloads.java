@@ -0,0 +1,75 @@
+package ru.practicum.shareit;
+
+import ru.practicum.shareit.booking.dto.BookingItemDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemExtendedDto;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+final class WireFormatPayloads {
+    private static final int PAGE = 100;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private WireFormatPayloads() {
+    }
+
+    static List<BookingResponseDto> bookings() {
+        return IntStream.rangeClosed(1, PAGE)
+                .mapToObj(id -> BookingResponseDto.builder()
+                        .id((long) id)
+                        .start(START.plusDays(id))
+                        .end(START.plusDays(id + 1))
+                        .item(ItemDto.builder()
+                                .id((long) id)
+                                .name("Дрель " + id)
+                                .description("Дрель ударная, почти новая")
+                                .available(true)
+                                .ownerId(1L)
+                                .build())
+                        .booker(UserDto.builder()
+                                .id((long) id + 1)
+                                .name("Booker " + id)
+                                .email("booker" + id + "@ya.ru")
+                                .build())
+                        .status(Status.APPROVED)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    static List<ItemExtendedDto> items() {
+        return IntStream.rangeClosed(1, PAGE)
+                .mapToObj(id -> ItemExtendedDto.builder()
+                        .id((long) id)
+                        .name("Дрель " + id)
+                        .description("Дрель ударная, почти новая")
+                        .available(true)
+                        .ownerId(1L)
+                        .lastBooking(BookingItemDto.builder()
+                                .id((long) id)
+                                .bookerId(2L)
+                                .start(START.minusDays(2))
+                                .end(START.minusDays(1))
+                                .build())
+                        .nextBooking(BookingItemDto.builder()
+                                .id((long) id + PAGE)
+                                .bookerId(3L)
+                                .start(START.plusDays(1))
+                                .end(START.plusDays(2))
+                                .build())
+                        .comments(List.of(CommentDto.builder()
+                                .id((long) id)
+                                .text("Всё отлично")
+                                .created(START.minusDays(1))
+                                .authorName("Booker")
+                                .build()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
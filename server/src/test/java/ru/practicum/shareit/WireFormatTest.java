@@ -0,0 +1,74 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.item.dto.ItemExtendedDto;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@Slf4j
+public class WireFormatTest {
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+    private final HttpMessageConverters httpMessageConverters;
+
+    private <T> void compare(String name, T payload, TypeReference<T> type) throws IOException {
+        ObjectMapper smileMapper = smileConverter.getObjectMapper();
+        byte[] json = objectMapper.writeValueAsBytes(payload);
+        byte[] smile = smileMapper.writeValueAsBytes(payload);
+
+        assertEquals(objectMapper.readTree(json), smileMapper.readTree(smile));
+        assertArrayEquals(json, objectMapper.writeValueAsBytes(smileMapper.readValue(smile, type)));
+        assertTrue(smile.length < json.length);
+        log.info("{}: размер JSON {} байт, Smile {} байт", name, json.length, smile.length);
+    }
+
+    @Test
+    public void shouldKeepJsonAsDefaultFormat() {
+        List<HttpMessageConverter<?>> converters = httpMessageConverters.getConverters();
+        int json = -1;
+        int smile = -1;
+        for (int i = 0; i < converters.size(); i++) {
+            if (json < 0 && converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                json = i;
+            }
+            if (converters.get(i) == smileConverter) {
+                smile = i;
+            }
+        }
+
+        assertTrue(json >= 0);
+        assertTrue(smile > json);
+    }
+
+    @Test
+    public void shouldEncodeBookingsInSmallerSmilePayload() throws IOException {
+        compare("List<BookingResponseDto>", WireFormatPayloads.bookings(),
+                new TypeReference<List<BookingResponseDto>>() {
+                });
+    }
+
+    @Test
+    public void shouldEncodeItemsInSmallerSmilePayload() throws IOException {
+        compare("List<ItemExtendedDto>", WireFormatPayloads.items(),
+                new TypeReference<List<ItemExtendedDto>>() {
+                });
+    }
+}
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.SqlStatementCaptor;
+import ru.practicum.shareit.booking.controller.BookingController;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.enums.State;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.validation.ConstraintViolationException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.practicum.shareit.SqlStatementCaptor")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class BookingQueryCountTest {
+    private static final int BOOKINGS = 20;
+    private static final int MAX_STATEMENTS = 2;
+
+    private final BookingController bookingController;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+
+    private final LocalDateTime dateTime = LocalDateTime.now();
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    public void beforeEach() {
+        owner = userRepository.save(User.builder()
+                .name("Owner")
+                .email("owner@ya.ru")
+                .build());
+        booker = userRepository.save(User.builder()
+                .name("Booker")
+                .email("booker@ya.ru")
+                .build());
+        for (int i = 0; i < BOOKINGS; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("item " + i)
+                    .description("description " + i)
+                    .available(true)
+                    .owner(owner)
+                    .build());
+            bookingRepository.save(Booking.builder()
+                    .start(dateTime.plusDays(i - BOOKINGS / 2))
+                    .end(dateTime.plusDays(i - BOOKINGS / 2 + 1))
+                    .item(item)
+                    .booker(booker)
+                    .status(i % 2 == 0 ? Status.APPROVED : Status.WAITING)
+                    .build());
+        }
+    }
+
+    private List<BookingResponseDto> assertStatements(Supplier<List<BookingResponseDto>> call) {
+        SqlStatementCaptor.clear();
+        List<BookingResponseDto> bookings = call.get();
+        List<String> statements = SqlStatementCaptor.getStatements();
+        assertTrue(statements.size() <= MAX_STATEMENTS, String.join("\n", statements));
+        bookings.forEach(booking -> {
+            assertEquals(booker.getId(), booking.getBooker().getId());
+            assertEquals(booker.getName(), booking.getBooker().getName());
+            assertEquals(booker.getEmail(), booking.getBooker().getEmail());
+            assertTrue(booking.getItem().getName().startsWith("item "));
+            assertEquals(owner.getId(), booking.getItem().getOwnerId());
+        });
+        return bookings;
+    }
+
+    @ParameterizedTest
+    @EnumSource(State.class)
+    public void shouldListBookerBookingsInFixedStatements(State state) {
+        assertStatements(() -> bookingController.getAllByBookerId(booker.getId(), state.name(), 0, BOOKINGS, null)
+                .getBody());
+        assertStatements(() -> bookingController.getAllByBookerId(booker.getId(), state.name(), 0, BOOKINGS, "")
+                .getBody());
+    }
+
+    @ParameterizedTest
+    @EnumSource(State.class)
+    public void shouldListOwnerBookingsInFixedStatements(State state) {
+        assertStatements(() -> bookingController.getAllByOwnerId(owner.getId(), state.name(), 0, BOOKINGS, null)
+                .getBody());
+        assertStatements(() -> bookingController.getAllByOwnerId(owner.getId(), state.name(), 0, BOOKINGS, "")
+                .getBody());
+    }
+
+    @Test
+    public void shouldListWholePageInFixedStatements() {
+        assertEquals(BOOKINGS, assertStatements(() -> bookingController
+                .getAllByOwnerId(owner.getId(), State.ALL.name(), 0, BOOKINGS, null).getBody()).size());
+    }
+
+    @Test
+    public void shouldRejectNonPositivePageSize() {
+        assertThrows(ConstraintViolationException.class, () -> bookingController
+                .getAllByOwnerId(owner.getId(), State.ALL.name(), 0, 0, ""));
+        assertThrows(ConstraintViolationException.class, () -> bookingController
+                .getAllByBookerId(booker.getId(), State.ALL.name(), 0, 0, null));
+    }
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.SqlStatementCaptor;
+import ru.practicum.shareit.booking.enums.Role;
+import ru.practicum.shareit.booking.enums.State;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.practicum.shareit.SqlStatementCaptor")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class BookingQueryPlanTest {
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime dateTime = LocalDateTime.of(2023, 1, 1, 10, 0, 0);
+    private final User owner = User.builder()
+            .name("Owner")
+            .email("owner@ya.ru")
+            .build();
+    private final User booker = User.builder()
+            .name("Booker")
+            .email("booker@ya.ru")
+            .build();
+    private final Item item = Item.builder()
+            .name("item name")
+            .description("item description")
+            .available(true)
+            .owner(owner)
+            .build();
+
+    @BeforeEach
+    public void beforeEach() {
+        userRepository.save(owner);
+        userRepository.save(booker);
+        itemRepository.save(item);
+        for (int i = 0; i < 10; i++) {
+            bookingRepository.save(Booking.builder()
+                    .start(dateTime.plusDays(i))
+                    .end(dateTime.plusDays(i + 1))
+                    .item(item)
+                    .booker(booker)
+                    .status(Status.values()[i % Status.values().length])
+                    .build());
+        }
+        bookingRepository.flush();
+    }
+
+    private String explain(Role role, State state) {
+        SqlStatementCaptor.clear();
+        bookingRepository.findByUserAndState(role, role == Role.BOOKER ? booker.getId() : owner.getId(), state,
+                dateTime, PageRequest.of(0, 10));
+        List<String> statements = SqlStatementCaptor.getStatements();
+        assertEquals(1, statements.size());
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + statements.get(0), String.class));
+    }
+
+    private boolean usesIndexOn(String plan, String column) {
+        return Pattern.compile("/\\* PUBLIC\\.\\w+: [^*]*\\b" + column + " = ").matcher(plan).find();
+    }
+
+    @ParameterizedTest
+    @EnumSource(State.class)
+    public void shouldUseIndexForBooker(State state) {
+        String plan = explain(Role.BOOKER, state);
+
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(usesIndexOn(plan, "BOOKER_ID"), plan);
+    }
+
+    @ParameterizedTest
+    @EnumSource(State.class)
+    public void shouldUseIndexForOwner(State state) {
+        String plan = explain(Role.OWNER, state);
+
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(usesIndexOn(plan, "OWNER_ID"), plan);
+        assertTrue(usesIndexOn(plan, "ITEM_ID"), plan);
+    }
+}
@@ -10,6 +10,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.enums.Role;
+import ru.practicum.shareit.booking.enums.State;
 import ru.practicum.shareit.booking.enums.Status;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
@@ -21,9 +24,9 @@ import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -100,11 +103,11 @@ public class BookingRepositoryTest {
     }
 
     @Nested
-    class FindByBookerIdOrderByStartDesc {
+    class FindByUserAndStateBookerAll {
         @Test
         public void shouldGetAll() {
-            List<Booking> result = bookingRepository.findByBookerIdOrderByStartDesc(user2.getId(), pageable)
-                    .get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user2.getId(), State.ALL,
+                    dateTime, pageable);
 
             assertEquals(4, result.size());
             assertEquals(bookingRejected.getId(), result.get(0).getId());
@@ -115,20 +118,19 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository.findByBookerIdOrderByStartDesc(user1.getId(), pageable)
-                    .get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user1.getId(), State.ALL,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
     }
 
     @Nested
-    class FindByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc {
+    class FindByUserAndStateBookerCurrent {
         @Test
         public void shouldGetCurrent() {
-            List<Booking> result = bookingRepository
-                    .findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(user2.getId(), dateTime,
-                            dateTime, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user2.getId(), State.CURRENT,
+                    dateTime, pageable);
 
             assertEquals(1, result.size());
             assertEquals(bookingCurrent.getId(), result.get(0).getId());
@@ -136,21 +138,19 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository
-                    .findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(user1.getId(), dateTime,
-                            dateTime, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user1.getId(), State.CURRENT,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
     }
 
     @Nested
-    class FindByBookerIdAndEndBeforeAndStatusEqualsOrderByStartDesc {
+    class FindByUserAndStateBookerPast {
         @Test
         public void shouldGetPast() {
-            List<Booking> result = bookingRepository
-                    .findByBookerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(user2.getId(), dateTime,
-                            Status.APPROVED, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user2.getId(), State.PAST,
+                    dateTime, pageable);
 
             assertEquals(1, result.size());
             assertEquals(bookingPast.getId(), result.get(0).getId());
@@ -158,21 +158,19 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository
-                    .findByBookerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(user1.getId(), dateTime,
-                            Status.APPROVED, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user1.getId(), State.PAST,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
     }
 
     @Nested
-    class FindByBookerIdAndStartAfterOrderByStartDesc {
+    class FindByUserAndStateBookerFuture {
         @Test
         public void shouldGetFuture() {
-            List<Booking> result = bookingRepository
-                    .findByBookerIdAndStartAfterOrderByStartDesc(user2.getId(), dateTime, pageable)
-                    .get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user2.getId(), State.FUTURE,
+                    dateTime, pageable);
 
             assertEquals(2, result.size());
             assertEquals(bookingRejected.getId(), result.get(0).getId());
@@ -181,21 +179,19 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository
-                    .findByBookerIdAndStartAfterOrderByStartDesc(user1.getId(), dateTime, pageable)
-                    .get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user1.getId(), State.FUTURE,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
     }
 
     @Nested
-    class FindByBookerIdAndStatusEqualsOrderByStartDesc {
+    class FindByUserAndStateBookerStatus {
         @Test
         public void shouldGetWaiting() {
-            List<Booking> result = bookingRepository
-                    .findByBookerIdAndStatusEqualsOrderByStartDesc(user2.getId(), Status.WAITING, pageable)
-                    .get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user2.getId(), State.WAITING,
+                    dateTime, pageable);
 
             assertEquals(1, result.size());
             assertEquals(bookingFuture.getId(), result.get(0).getId());
@@ -203,9 +199,8 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetRejected() {
-            List<Booking> result = bookingRepository
-                    .findByBookerIdAndStatusEqualsOrderByStartDesc(user2.getId(), Status.REJECTED, pageable)
-                    .get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user2.getId(), State.REJECTED,
+                    dateTime, pageable);
 
             assertEquals(1, result.size());
             assertEquals(bookingRejected.getId(), result.get(0).getId());
@@ -213,20 +208,19 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository
-                    .findByBookerIdAndStatusEqualsOrderByStartDesc(user1.getId(), Status.WAITING, pageable)
-                    .get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.BOOKER, user1.getId(), State.WAITING,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
     }
 
     @Nested
-    class FindByItemOwnerIdOrderByStartDesc {
+    class FindByUserAndStateOwnerAll {
         @Test
         public void shouldGetAll() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdOrderByStartDesc(user1.getId(), pageable)
-                    .get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user1.getId(), State.ALL,
+                    dateTime, pageable);
 
             assertEquals(4, result.size());
             assertEquals(bookingRejected.getId(), result.get(0).getId());
@@ -237,19 +231,19 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdOrderByStartDesc(user2.getId(), pageable)
-                    .get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user2.getId(), State.ALL,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
     }
 
     @Nested
-    class FindByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc {
+    class FindByUserAndStateOwnerCurrent {
         @Test
         public void shouldGetCurrent() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                    user1.getId(), dateTime, dateTime, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user1.getId(), State.CURRENT,
+                    dateTime, pageable);
 
             assertEquals(1, result.size());
             assertEquals(bookingCurrent.getId(), result.get(0).getId());
@@ -257,19 +251,19 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(
-                    user2.getId(), dateTime, dateTime, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user2.getId(), State.CURRENT,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
     }
 
     @Nested
-    class FindByItemOwnerIdAndEndBeforeAndStatusEqualsOrderByStartDesc {
+    class FindByUserAndStateOwnerPast {
         @Test
         public void shouldGetPast() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(
-                    user1.getId(), dateTime, Status.APPROVED, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user1.getId(), State.PAST,
+                    dateTime, pageable);
 
             assertEquals(1, result.size());
             assertEquals(bookingPast.getId(), result.get(0).getId());
@@ -277,19 +271,19 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdAndEndBeforeAndStatusEqualsOrderByStartDesc(
-                    user2.getId(), dateTime, Status.APPROVED, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user2.getId(), State.PAST,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
     }
 
     @Nested
-    class FindByItemOwnerIdAndStartAfterOrderByStartDesc {
+    class FindByUserAndStateOwnerFuture {
         @Test
         public void shouldGetFuture() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdAndStartAfterOrderByStartDesc(user1.getId(),
-                    dateTime, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user1.getId(), State.FUTURE,
+                    dateTime, pageable);
 
             assertEquals(2, result.size());
             assertEquals(bookingRejected.getId(), result.get(0).getId());
@@ -298,19 +292,19 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdAndStartAfterOrderByStartDesc(user2.getId(),
-                    dateTime, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user2.getId(), State.FUTURE,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
     }
 
     @Nested
-    class FindByItemOwnerIdAndStatusEqualsOrderByStartDesc {
+    class FindByUserAndStateOwnerStatus {
         @Test
         public void shouldGetWaiting() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdAndStatusEqualsOrderByStartDesc(user1.getId(),
-                    Status.WAITING, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user1.getId(), State.WAITING,
+                    dateTime, pageable);
 
             assertEquals(1, result.size());
             assertEquals(bookingFuture.getId(), result.get(0).getId());
@@ -318,8 +312,8 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetRejected() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdAndStatusEqualsOrderByStartDesc(user1.getId(),
-                    Status.REJECTED, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user1.getId(), State.REJECTED,
+                    dateTime, pageable);
 
             assertEquals(1, result.size());
             assertEquals(bookingRejected.getId(), result.get(0).getId());
@@ -327,8 +321,8 @@ public class BookingRepositoryTest {
 
         @Test
         public void shouldGetEmpty() {
-            List<Booking> result = bookingRepository.findByItemOwnerIdAndStatusEqualsOrderByStartDesc(user2.getId(),
-                    Status.WAITING, pageable).get().collect(Collectors.toList());
+            List<Booking> result = bookingRepository.findByUserAndState(Role.OWNER, user2.getId(), State.WAITING,
+                    dateTime, pageable);
 
             assertTrue(result.isEmpty());
         }
@@ -394,4 +388,77 @@ public class BookingRepositoryTest {
             assertTrue(result.isEmpty());
         }
     }
+
+    @Nested
+    class ExistsByItemIdAndStatusAndStartBeforeAndEndAfter {
+        @Test
+        public void shouldFindOverlappingApproved() {
+            assertTrue(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item1.getId(),
+                    Status.APPROVED, dateTime.plusDays(1), dateTime));
+        }
+
+        @Test
+        public void shouldIgnoreNotApproved() {
+            assertFalse(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item1.getId(),
+                    Status.APPROVED, dateTime.plusYears(10).plusDays(1), dateTime.plusYears(8).plusDays(1)));
+        }
+
+        @Test
+        public void shouldNotFindAdjacent() {
+            assertFalse(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item1.getId(),
+                    Status.APPROVED, dateTime.minusYears(10), dateTime.minusYears(11)));
+        }
+    }
+
+    @Nested
+    class FindByUserAndStateAfterBooker {
+        @Test
+        public void shouldGetFirstPage() {
+            List<Booking> result = bookingRepository.findByUserAndStateAfter(Role.BOOKER, user2.getId(), State.ALL,
+                    dateTime, null, 2);
+
+            assertEquals(2, result.size());
+            assertEquals(bookingRejected.getId(), result.get(0).getId());
+            assertEquals(bookingFuture.getId(), result.get(1).getId());
+        }
+
+        @Test
+        public void shouldGetPageAfterCursor() {
+            List<Booking> result = bookingRepository.findByUserAndStateAfter(Role.BOOKER, user2.getId(), State.ALL,
+                    dateTime, BookingCursor.of(bookingFuture.getStart(), bookingFuture.getId()), 2);
+
+            assertEquals(2, result.size());
+            assertEquals(bookingCurrent.getId(), result.get(0).getId());
+            assertEquals(bookingPast.getId(), result.get(1).getId());
+        }
+
+        @Test
+        public void shouldFilterByState() {
+            List<Booking> result = bookingRepository.findByUserAndStateAfter(Role.BOOKER, user2.getId(), State.FUTURE,
+                    dateTime, BookingCursor.of(bookingRejected.getStart(), bookingRejected.getId()), 10);
+
+            assertEquals(1, result.size());
+            assertEquals(bookingFuture.getId(), result.get(0).getId());
+        }
+    }
+
+    @Nested
+    class FindByUserAndStateAfterOwner {
+        @Test
+        public void shouldGetPageAfterCursor() {
+            List<Booking> result = bookingRepository.findByUserAndStateAfter(Role.OWNER, user1.getId(), State.ALL,
+                    dateTime, BookingCursor.of(bookingCurrent.getStart(), bookingCurrent.getId()), 10);
+
+            assertEquals(1, result.size());
+            assertEquals(bookingPast.getId(), result.get(0).getId());
+        }
+
+        @Test
+        public void shouldGetEmpty() {
+            List<Booking> result = bookingRepository.findByUserAndStateAfter(Role.OWNER, user2.getId(), State.ALL,
+                    dateTime, null, 10);
+
+            assertTrue(result.isEmpty());
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "shareit.search.strategy=full-text",
+        "spring.sql.init.platform=postgresql"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ItemFullTextSearchTest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine");
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private Item drill;
+    private Item hammer;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.driverClassName", POSTGRES::getDriverClassName);
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        User owner = userRepository.save(User.builder()
+                .name("Owner")
+                .email("owner@ya.ru")
+                .build());
+        drill = saveItem(owner, "Дрель", "Ударная дрель с набором свёрл", true);
+        hammer = saveItem(owner, "Молоток", "Подходит, чтобы забить дюбель после дрели", true);
+        saveItem(owner, "Дрель аккумуляторная", "Сейчас в ремонте", false);
+    }
+
+    private Item saveItem(User owner, String name, String description, boolean available) {
+        return itemRepository.save(Item.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(owner)
+                .build());
+    }
+
+    private List<Long> search(String query) {
+        return itemRepository.fullTextSearch(query, PageRequest.of(0, 10))
+                .stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void shouldGenerateSearchVector() {
+        Integer empty = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM items WHERE search_vector IS NULL OR search_vector = ''::tsvector",
+                Integer.class);
+
+        assertEquals(0, empty);
+    }
+
+    @Test
+    public void shouldCreatePartialGinIndex() {
+        String definition = jdbcTemplate.queryForObject(
+                "SELECT indexdef FROM pg_indexes WHERE indexname = 'idx_items_search_vector'", String.class);
+
+        assertTrue(definition.contains("USING gin"), definition);
+        assertTrue(definition.contains("WHERE available"), definition);
+    }
+
+    @Test
+    public void shouldFindAvailableItemsByStemAndRankNameFirst() {
+        assertEquals(List.of(drill.getId(), hammer.getId()), search("дрел:*"));
+    }
+
+    @Test
+    public void shouldMatchAllTerms() {
+        assertEquals(List.of(hammer.getId()), search("дрел:* & дюбел:*"));
+    }
+
+    @Test
+    public void shouldCountMatchesForPaging() {
+        Page<Item> page = itemRepository.fullTextSearch("дрел:*", PageRequest.of(0, 1));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(List.of(drill.getId()), page.map(Item::getId).getContent());
+    }
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.SqlStatementCaptor;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.item.controller.ItemController;
+import ru.practicum.shareit.item.dto.ItemExtendedDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.practicum.shareit.SqlStatementCaptor")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ItemQueryCountTest {
+    private static final int BOOKINGS = 10;
+    private static final int COMMENTS = 5;
+    private static final int MAX_STATEMENTS = 2;
+
+    private final ItemController itemController;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+
+    private final LocalDateTime dateTime = LocalDateTime.now();
+    private User owner;
+    private User booker;
+    private Item item;
+    private Booking lastBooking;
+    private Booking nextBooking;
+
+    @BeforeEach
+    public void beforeEach() {
+        owner = userRepository.save(User.builder()
+                .name("Owner")
+                .email("owner@ya.ru")
+                .build());
+        booker = userRepository.save(User.builder()
+                .name("Booker")
+                .email("booker@ya.ru")
+                .build());
+        item = itemRepository.save(Item.builder()
+                .name("item")
+                .description("description")
+                .available(true)
+                .owner(owner)
+                .build());
+        for (int i = 0; i < BOOKINGS; i++) {
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .start(dateTime.plusDays(i - BOOKINGS / 2))
+                    .end(dateTime.plusDays(i - BOOKINGS / 2).plusHours(1))
+                    .item(item)
+                    .booker(booker)
+                    .status(Status.APPROVED)
+                    .build());
+            if (i == BOOKINGS / 2) {
+                lastBooking = booking;
+            } else if (i == BOOKINGS / 2 + 1) {
+                nextBooking = booking;
+            }
+        }
+        for (int i = 0; i < COMMENTS; i++) {
+            User author = userRepository.save(User.builder()
+                    .name("Author " + i)
+                    .email("author" + i + "@ya.ru")
+                    .build());
+            commentRepository.save(Comment.builder()
+                    .text("comment " + i)
+                    .created(dateTime)
+                    .author(author)
+                    .itemId(item.getId())
+                    .build());
+        }
+    }
+
+    private <T> T assertStatements(Supplier<T> call) {
+        SqlStatementCaptor.clear();
+        T result = call.get();
+        List<String> statements = SqlStatementCaptor.getStatements();
+        assertTrue(statements.size() <= MAX_STATEMENTS, String.join("\n", statements));
+        return result;
+    }
+
+    private void checkItem(ItemExtendedDto itemExtendedDto, boolean withBookings) {
+        assertEquals(item.getId(), itemExtendedDto.getId());
+        assertEquals(COMMENTS, itemExtendedDto.getComments().size());
+        if (withBookings) {
+            assertEquals(lastBooking.getId(), itemExtendedDto.getLastBooking().getId());
+            assertEquals(nextBooking.getId(), itemExtendedDto.getNextBooking().getId());
+        } else {
+            assertNull(itemExtendedDto.getLastBooking());
+            assertNull(itemExtendedDto.getNextBooking());
+        }
+    }
+
+    @Test
+    public void shouldGetItemForOwnerInFixedStatements() {
+        checkItem(assertStatements(() -> itemController.getById(owner.getId(), item.getId())), true);
+    }
+
+    @Test
+    public void shouldGetItemForOtherUserInFixedStatements() {
+        checkItem(assertStatements(() -> itemController.getById(booker.getId(), item.getId())), false);
+    }
+
+    @Test
+    public void shouldListOwnerItemsInFixedStatements() {
+        List<ItemExtendedDto> items = assertStatements(() -> itemController.getByOwnerId(owner.getId(), 0, 10));
+
+        assertEquals(1, items.size());
+        checkItem(items.get(0), true);
+    }
+}
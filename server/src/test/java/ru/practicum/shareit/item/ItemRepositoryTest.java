@@ -9,16 +9,22 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.enums.Status;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemWithBookings;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.markers.Constants;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -27,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class ItemRepositoryTest {
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
 
     private final int from = Integer.parseInt(Constants.PAGE_DEFAULT_FROM);
     private final int size = Integer.parseInt(Constants.PAGE_DEFAULT_SIZE);
@@ -122,6 +129,82 @@ public class ItemRepositoryTest {
         }
     }
 
+    @Nested
+    class FindByOwnerIdWithBookings {
+        private final LocalDateTime dateTime = LocalDateTime.now();
+
+        private Booking saveBooking(Item item, int startShift, Status status) {
+            return bookingRepository.save(Booking.builder()
+                    .start(dateTime.plusDays(startShift))
+                    .end(dateTime.plusDays(startShift).plusHours(1))
+                    .item(item)
+                    .booker(user2)
+                    .status(status)
+                    .build());
+        }
+
+        @Test
+        public void shouldGetItemsWithNearestApprovedBookings() {
+            saveBooking(item1, -3, Status.APPROVED);
+            Booking lastBooking = saveBooking(item1, -2, Status.APPROVED);
+            saveBooking(item1, -1, Status.REJECTED);
+            saveBooking(item1, 1, Status.WAITING);
+            Booking nextBooking = saveBooking(item1, 2, Status.APPROVED);
+            saveBooking(item1, 3, Status.APPROVED);
+
+            List<ItemWithBookings> itemsFromRepository = itemRepository.findByOwnerIdWithBookings(user1.getId(),
+                            Status.APPROVED, dateTime, pageable);
+
+            assertEquals(2, itemsFromRepository.size());
+
+            ItemWithBookings itemFromRepository1 = itemsFromRepository.get(0);
+            ItemWithBookings itemFromRepository2 = itemsFromRepository.get(1);
+
+            checkItem(item1, itemFromRepository1.getItem());
+            assertEquals(lastBooking.getId(), itemFromRepository1.getLastBooking().getId());
+            assertEquals(nextBooking.getId(), itemFromRepository1.getNextBooking().getId());
+
+            checkItem(item3, itemFromRepository2.getItem());
+            assertNull(itemFromRepository2.getLastBooking());
+            assertNull(itemFromRepository2.getNextBooking());
+        }
+
+        @Test
+        public void shouldGetOneRowPerItemIfApprovedBookingsShareStart() {
+            saveBooking(item1, -2, Status.APPROVED);
+            Booking lastBooking = saveBooking(item1, -2, Status.APPROVED);
+            saveBooking(item1, 2, Status.APPROVED);
+            Booking nextBooking = saveBooking(item1, 2, Status.APPROVED);
+
+            List<ItemWithBookings> itemsFromRepository = itemRepository.findByOwnerIdWithBookings(user1.getId(),
+                    Status.APPROVED, dateTime, PageRequest.of(0, 1));
+
+            assertEquals(1, itemsFromRepository.size());
+            checkItem(item1, itemsFromRepository.get(0).getItem());
+            assertEquals(lastBooking.getId(), itemsFromRepository.get(0).getLastBooking().getId());
+            assertEquals(nextBooking.getId(), itemsFromRepository.get(0).getNextBooking().getId());
+
+            ItemWithBookings itemById = itemRepository.findByIdWithBookings(item1.getId(), Status.APPROVED,
+                    dateTime).orElseThrow();
+            assertEquals(lastBooking.getId(), itemById.getLastBooking().getId());
+            assertEquals(nextBooking.getId(), itemById.getNextBooking().getId());
+
+            List<ItemWithBookings> secondPage = itemRepository.findByOwnerIdWithBookings(user1.getId(),
+                    Status.APPROVED, dateTime, PageRequest.of(1, 1));
+
+            assertEquals(1, secondPage.size());
+            checkItem(item3, secondPage.get(0).getItem());
+        }
+
+        @Test
+        public void shouldGetZeroItems() {
+            List<ItemWithBookings> itemsFromRepository = itemRepository.findByOwnerIdWithBookings(99L,
+                            Status.APPROVED, dateTime, pageable);
+
+            assertTrue(itemsFromRepository.isEmpty());
+        }
+    }
+
     @Nested
     class Search {
         @Test
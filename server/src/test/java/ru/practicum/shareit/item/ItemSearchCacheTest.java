@@ -0,0 +1,98 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.SqlStatementCaptor;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.practicum.shareit.SqlStatementCaptor")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ItemSearchCacheTest {
+    private final ItemService itemService;
+    private final UserService userService;
+
+    private UserDto owner;
+    private ItemDto drill;
+
+    @BeforeEach
+    public void beforeEach() {
+        owner = userService.add(UserDto.builder()
+                .name("Owner")
+                .email("owner@ya.ru")
+                .build());
+        drill = addItem("Дрель");
+    }
+
+    private ItemDto addItem(String name) {
+        return itemService.add(owner.getId(), ItemDto.builder()
+                .name(name)
+                .description("Аккумуляторная")
+                .available(true)
+                .build());
+    }
+
+    private List<Long> search(String text) {
+        return itemService.search(text, PageRequest.of(0, 10))
+                .stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void shouldServeRepeatedSearchFromCache() {
+        search("дрель");
+        SqlStatementCaptor.clear();
+
+        assertEquals(List.of(drill.getId()), search("ДРЕЛЬ"));
+        assertTrue(SqlStatementCaptor.getStatements().isEmpty());
+
+        itemService.search("дрель", PageRequest.of(1, 10));
+
+        assertFalse(SqlStatementCaptor.getStatements().isEmpty());
+    }
+
+    @Test
+    public void shouldInvalidateOnCatalogChanges() {
+        assertEquals(List.of(drill.getId()), search("аккумулятор"));
+
+        ItemDto screwdriver = addItem("Шуруповёрт");
+
+        assertEquals(List.of(drill.getId(), screwdriver.getId()), search("аккумулятор"));
+
+        itemService.update(owner.getId(), drill.getId(), ItemDto.builder()
+                .available(false)
+                .build());
+
+        assertEquals(List.of(screwdriver.getId()), search("аккумулятор"));
+
+        itemService.delete(screwdriver.getId());
+
+        assertTrue(search("аккумулятор").isEmpty());
+    }
+
+    @Test
+    public void shouldInvalidateOnOwnerDelete() {
+        assertEquals(List.of(drill.getId()), search("дрель"));
+
+        userService.delete(owner.getId());
+
+        assertTrue(search("дрель").isEmpty());
+    }
+}
@@ -0,0 +1,147 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.IndexedItem;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "shareit.search.strategy=in-memory")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ItemSearchIndexTest {
+    private final ItemService itemService;
+    private final UserService userService;
+    private final ItemSearchIndex itemSearchIndex;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+    private UserDto owner;
+
+    @BeforeEach
+    public void beforeEach() {
+        owner = userService.add(UserDto.builder()
+                .name("Owner")
+                .email("owner@ya.ru")
+                .build());
+    }
+
+    private ItemDto addItem(String name, String description, boolean available) {
+        return itemService.add(owner.getId(), ItemDto.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .build());
+    }
+
+    private List<Long> search(String text) {
+        return itemService.search(text, pageable)
+                .stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void shouldRebuildFromRepository() {
+        User user = userRepository.findById(owner.getId()).orElseThrow();
+        Item item = itemRepository.save(Item.builder()
+                .name("Дрель")
+                .description("Аккумуляторная дрель")
+                .available(true)
+                .owner(user)
+                .build());
+
+        assertTrue(itemSearchIndex.search("дрель", 0, 10).isEmpty());
+
+        itemSearchIndex.rebuild();
+
+        assertEquals(List.of(item.getId()), itemSearchIndex.search("дрель", 0, 10)
+                .stream()
+                .map(IndexedItem::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldFindAddedAvailableItemsBySubstring() {
+        ItemDto drill = addItem("Дрель", "Аккумуляторная дрель", true);
+        ItemDto hammer = addItem("Молоток", "Простой молоток", true);
+        addItem("Дрель ударная", "Сломанная дрель", false);
+
+        assertEquals(List.of(drill.getId()), search("ДРЕЛ"));
+        assertEquals(List.of(drill.getId()), search("муляторн"));
+        assertEquals(List.of(drill.getId(), hammer.getId()), search("о"));
+        assertTrue(search("дрель молоток").isEmpty());
+        assertTrue(search("xyz").isEmpty());
+    }
+
+    @Test
+    public void shouldPageResults() {
+        ItemDto first = addItem("Пила 1", "Пила", true);
+        ItemDto second = addItem("Пила 2", "Пила", true);
+        ItemDto third = addItem("Пила 3", "Пила", true);
+
+        assertEquals(List.of(first.getId(), second.getId()), itemService.search("пила", PageRequest.of(0, 2))
+                .stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()));
+        assertEquals(List.of(third.getId()), itemService.search("пила", PageRequest.of(1, 2))
+                .stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldReindexUpdatedItem() {
+        ItemDto item = addItem("Дрель", "Аккумуляторная дрель", true);
+
+        itemService.update(owner.getId(), item.getId(), ItemDto.builder()
+                .name("Шуруповёрт")
+                .description("Аккумуляторный шуруповёрт")
+                .build());
+
+        assertTrue(search("дрель").isEmpty());
+        assertEquals(List.of(item.getId()), search("шуруп"));
+
+        itemService.update(owner.getId(), item.getId(), ItemDto.builder()
+                .available(false)
+                .build());
+
+        assertTrue(search("шуруп").isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveDeletedItems() {
+        ItemDto item = addItem("Дрель", "Аккумуляторная дрель", true);
+        itemService.delete(item.getId());
+
+        assertTrue(search("дрель").isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveItemsOfDeletedOwner() {
+        addItem("Дрель", "Аккумуляторная дрель", true);
+        userService.delete(owner.getId());
+
+        assertTrue(search("дрель").isEmpty());
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import ru.practicum.shareit.item.search.ItemSuggestIndex;
+import ru.practicum.shareit.item.service.ItemService;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = ItemSuggestIndex.PROPERTY + "=false")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ItemSuggestDisabledTest {
+    private final ApplicationContext context;
+    private final ItemService itemService;
+
+    @Test
+    public void shouldNotBuildIndexWhenDisabled() {
+        assertTrue(context.getBeansOfType(ItemSuggestIndex.class).isEmpty());
+        assertTrue(itemService.suggest("дре").isEmpty());
+    }
+}
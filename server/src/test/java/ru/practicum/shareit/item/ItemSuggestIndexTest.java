@@ -0,0 +1,119 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSuggestIndex;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ItemSuggestIndexTest {
+    private final ItemService itemService;
+    private final UserService userService;
+    private final ItemSuggestIndex itemSuggestIndex;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+
+    private UserDto owner;
+
+    @BeforeEach
+    public void beforeEach() {
+        owner = userService.add(UserDto.builder()
+                .name("Owner")
+                .email("owner@ya.ru")
+                .build());
+    }
+
+    private ItemDto addItem(String name, boolean available) {
+        return itemService.add(owner.getId(), ItemDto.builder()
+                .name(name)
+                .description("description")
+                .available(available)
+                .build());
+    }
+
+    @Test
+    public void shouldRebuildFromRepository() {
+        User user = userRepository.findById(owner.getId()).orElseThrow();
+        itemRepository.save(Item.builder()
+                .name("Дрель")
+                .description("description")
+                .available(true)
+                .owner(user)
+                .build());
+
+        assertTrue(itemService.suggest("дре").isEmpty());
+
+        itemSuggestIndex.rebuild();
+
+        assertEquals(List.of("дрель"), itemService.suggest("дре"));
+    }
+
+    @Test
+    public void shouldSuggestMostFrequentTokensOfAvailableItems() {
+        addItem("Дрель аккумуляторная", true);
+        addItem("Дрель ударная", true);
+        addItem("Дровокол", true);
+        addItem("Дрезина", false);
+
+        assertEquals(List.of("дрель", "дровокол"), itemService.suggest("Др"));
+        assertEquals(List.of("ударная"), itemService.suggest("дрель уд"));
+        assertTrue(itemService.suggest("дрез").isEmpty());
+        assertTrue(itemService.suggest(" ").isEmpty());
+    }
+
+    @Test
+    public void shouldLimitSuggestions() {
+        for (int i = 0; i < 15; i++) {
+            addItem("Пила" + i, true);
+        }
+
+        assertEquals(10, itemService.suggest("пил").size());
+    }
+
+    @Test
+    public void shouldFollowItemUpdatesAndDeletes() {
+        ItemDto drill = addItem("Дрель", true);
+        ItemDto saw = addItem("Пила", true);
+
+        itemService.update(owner.getId(), drill.getId(), ItemDto.builder()
+                .name("Шуруповёрт")
+                .build());
+        itemService.update(owner.getId(), saw.getId(), ItemDto.builder()
+                .available(false)
+                .build());
+
+        assertTrue(itemService.suggest("дре").isEmpty());
+        assertTrue(itemService.suggest("пил").isEmpty());
+        assertEquals(List.of("шуруповёрт"), itemService.suggest("шуруп"));
+
+        itemService.delete(drill.getId());
+
+        assertTrue(itemService.suggest("шуруп").isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveItemsOfDeletedOwner() {
+        addItem("Дрель", true);
+        userService.delete(owner.getId());
+
+        assertTrue(itemService.suggest("дре").isEmpty());
+    }
+}